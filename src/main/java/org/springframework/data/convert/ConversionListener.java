@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+
+/**
+ * Listener notified about conversions performed through an {@link InstrumentingConversionService}. Conversions are
+ * reported per {@link ConvertiblePair} and distinguish between conversions handled by a custom converter registered
+ * through {@link CustomConversions} and conversions that fall back to the generic {@link ConversionService}.
+ * <p>
+ * Implementations are invoked on the conversion hot path and must therefore be thread-safe and cheap.
+ *
+ * @since 3.1
+ * @see ConversionMetrics
+ * @see InstrumentingConversionService
+ */
+public interface ConversionListener {
+
+	/**
+	 * Returns whether the duration of the upcoming conversion for the given {@link ConvertiblePair} should be measured.
+	 * Allows implementations to sample latencies instead of measuring each conversion. Defaults to {@literal false}.
+	 *
+	 * @param pair the {@link ConvertiblePair} to be converted; never {@literal null}.
+	 * @return {@literal true} to measure the conversion duration.
+	 */
+	default boolean shouldMeasure(ConvertiblePair pair) {
+		return false;
+	}
+
+	/**
+	 * Callback for a conversion handled by a custom converter.
+	 *
+	 * @param pair the converted {@link ConvertiblePair}; never {@literal null}.
+	 * @param durationNanos the conversion duration in nanoseconds or {@literal -1} if the conversion was not measured.
+	 */
+	void onConversion(ConvertiblePair pair, long durationNanos);
+
+	/**
+	 * Callback for a conversion that was not covered by a custom converter and fell back to the generic
+	 * {@link ConversionService}.
+	 *
+	 * @param pair the converted {@link ConvertiblePair}; never {@literal null}.
+	 * @param durationNanos the conversion duration in nanoseconds or {@literal -1} if the conversion was not measured.
+	 */
+	void onFallback(ConvertiblePair pair, long durationNanos);
+}
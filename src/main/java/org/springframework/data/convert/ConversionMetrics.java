@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link ConversionListener} counting conversions and fallbacks per {@link ConvertiblePair}. Latencies are
+ * sampled randomly at a configurable rate to keep the overhead of measuring low. Counters are backed by
+ * {@link LongAdder}s to avoid contention between concurrently converting threads.
+ *
+ * @since 3.1
+ * @see InstrumentingConversionService
+ */
+public class ConversionMetrics implements ConversionListener {
+
+	private volatile Map<ConvertiblePair, PairMetrics> metrics = new ConcurrentHashMap<>();
+	private final int sampleInterval;
+
+	/**
+	 * Creates a new {@link ConversionMetrics} instance measuring the duration of every 64th conversion on average.
+	 */
+	public ConversionMetrics() {
+		this(64);
+	}
+
+	/**
+	 * Creates a new {@link ConversionMetrics} instance measuring the duration of every {@code sampleInterval}-th
+	 * conversion on average.
+	 *
+	 * @param sampleInterval the sampling interval, must be greater than zero. Use {@literal 1} to measure every
+	 *          conversion.
+	 */
+	public ConversionMetrics(int sampleInterval) {
+
+		Assert.isTrue(sampleInterval > 0, "Sample interval must be greater than zero");
+
+		this.sampleInterval = sampleInterval;
+	}
+
+	@Override
+	public boolean shouldMeasure(ConvertiblePair pair) {
+		return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+	}
+
+	@Override
+	public void onConversion(ConvertiblePair pair, long durationNanos) {
+		getMetrics(pair).record(false, durationNanos);
+	}
+
+	@Override
+	public void onFallback(ConvertiblePair pair, long durationNanos) {
+		getMetrics(pair).record(true, durationNanos);
+	}
+
+	/**
+	 * Returns a snapshot of the statistics collected so far, ordered by the number of invocations, most frequent
+	 * conversions first.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Map<ConvertiblePair, ConversionStatistics> getStatistics() {
+
+		Map<ConvertiblePair, ConversionStatistics> statistics = new LinkedHashMap<>();
+
+		metrics.entrySet().stream() //
+				.map(it -> Map.entry(it.getKey(), it.getValue().toStatistics())) //
+				.sorted((left, right) -> Long.compare(right.getValue().invocations(), left.getValue().invocations())) //
+				.forEach(it -> statistics.put(it.getKey(), it.getValue()));
+
+		return Collections.unmodifiableMap(statistics);
+	}
+
+	/**
+	 * Resets all statistics collected so far by atomically switching to a new set of counters. Conversions that are in
+	 * flight while resetting are recorded against the discarded counters and therefore not reported.
+	 */
+	public void reset() {
+		this.metrics = new ConcurrentHashMap<>();
+	}
+
+	private PairMetrics getMetrics(ConvertiblePair pair) {
+
+		Map<ConvertiblePair, PairMetrics> metrics = this.metrics;
+		PairMetrics pairMetrics = metrics.get(pair);
+
+		if (pairMetrics == null) {
+			pairMetrics = metrics.computeIfAbsent(pair, it -> new PairMetrics());
+		}
+
+		return pairMetrics;
+	}
+
+	/**
+	 * Statistics for a single {@link ConvertiblePair}.
+	 *
+	 * @param invocations total number of conversions.
+	 * @param fallbacks number of conversions that fell back to the generic
+	 *          {@link org.springframework.core.convert.ConversionService}.
+	 * @param samples number of conversions whose duration was measured.
+	 * @param totalSampledNanos accumulated duration of the measured conversions in nanoseconds.
+	 * @param maxSampledNanos maximum duration of the measured conversions in nanoseconds.
+	 */
+	public record ConversionStatistics(long invocations, long fallbacks, long samples, long totalSampledNanos,
+			long maxSampledNanos) {
+
+		/**
+		 * Returns the mean duration of the measured conversions in nanoseconds.
+		 *
+		 * @return the mean duration or {@literal 0} if no conversion was measured.
+		 */
+		public double meanSampledNanos() {
+			return samples == 0 ? 0 : (double) totalSampledNanos / samples;
+		}
+
+		/**
+		 * Returns whether any conversion of the pair was handled by the generic
+		 * {@link org.springframework.core.convert.ConversionService}.
+		 *
+		 * @return {@literal true} if at least one conversion fell back to the generic
+		 *         {@link org.springframework.core.convert.ConversionService}.
+		 */
+		public boolean hasFallbacks() {
+			return fallbacks != 0;
+		}
+	}
+
+	private static class PairMetrics {
+
+		private final LongAdder invocations = new LongAdder();
+		private final LongAdder fallbacks = new LongAdder();
+		private final LongAdder samples = new LongAdder();
+		private final LongAdder sampledNanos = new LongAdder();
+		private final LongAccumulator maxSampledNanos = new LongAccumulator(Math::max, 0);
+
+		void record(boolean fallback, long durationNanos) {
+
+			invocations.increment();
+
+			if (fallback) {
+				fallbacks.increment();
+			}
+
+			if (durationNanos >= 0) {
+				samples.increment();
+				sampledNanos.add(durationNanos);
+				maxSampledNanos.accumulate(durationNanos);
+			}
+		}
+
+		ConversionStatistics toStatistics() {
+			return new ConversionStatistics(invocations.sum(), fallbacks.sum(), samples.sum(), sampledNanos.sum(),
+					maxSampledNanos.get());
+		}
+	}
+}
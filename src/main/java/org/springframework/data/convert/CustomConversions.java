@@ -41,6 +41,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 /**
@@ -746,6 +747,13 @@ public class CustomConversions {
 
 		public static final StoreConversions NONE = StoreConversions.of(SimpleTypeHolder.DEFAULT, Collections.emptyList());
 
+		/**
+		 * Cache for the type-level converter metadata (annotations and resolved generics) as it does not depend on a
+		 * particular {@link StoreConversions} or {@link org.springframework.context.ApplicationContext} and is therefore
+		 * shareable across {@link CustomConversions} instances.
+		 */
+		private static final Map<Class<?>, ConverterTypeMetadata> CONVERTER_TYPE_METADATA = new ConcurrentReferenceHashMap<>();
+
 		private final SimpleTypeHolder storeTypeHolder;
 		private final Collection<?> storeConverters;
 
@@ -797,9 +805,9 @@ public class CustomConversions {
 
 			Assert.notNull(converter, "Converter must not be null");
 
-			Class<?> type = converter.getClass();
-			boolean isWriting = isAnnotatedWith(type, WritingConverter.class);
-			boolean isReading = isAnnotatedWith(type, ReadingConverter.class);
+			ConverterTypeMetadata metadata = getConverterTypeMetadata(converter.getClass());
+			boolean isWriting = metadata.writing();
+			boolean isReading = metadata.reading();
 
 			if (converter instanceof ConverterAware converterAware) {
 
@@ -814,39 +822,26 @@ public class CustomConversions {
 						? Streamable.empty()
 						: Streamable.of(convertibleTypes).map(it -> register(converter, it, isReading, isWriting));
 
-			} else if (converter instanceof ConverterFactory) {
+			} else if (converter instanceof ConverterFactory || converter instanceof Converter) {
 
-				return getRegistrationFor(converter, ConverterFactory.class, isReading, isWriting);
+				ConvertiblePair pair = metadata.getRequiredConvertiblePair();
 
-			} else if (converter instanceof Converter) {
-
-				return getRegistrationFor(converter, Converter.class, isReading, isWriting);
+				return Streamable.of(register(converter, pair, isReading, isWriting));
 
 			} else {
 				throw new IllegalArgumentException(String.format("Unsupported converter type %s", converter));
 			}
 		}
 
-		private static boolean isAnnotatedWith(Class<?> type, Class<? extends Annotation> annotationType) {
-			return AnnotationUtils.findAnnotation(type, annotationType) != null;
-		}
-
-		private Streamable<ConverterRegistration> getRegistrationFor(Object converter, Class<?> type, boolean isReading,
-				boolean isWriting) {
+		private static ConverterTypeMetadata getConverterTypeMetadata(Class<?> converterType) {
 
-			Class<?> converterType = converter.getClass();
-			Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(converterType, type);
+			ConverterTypeMetadata metadata = CONVERTER_TYPE_METADATA.get(converterType);
 
-			if (arguments == null) {
-				throw new IllegalStateException(String.format("Couldn't resolve type arguments for %s", converterType));
+			if (metadata == null) {
+				metadata = CONVERTER_TYPE_METADATA.computeIfAbsent(converterType, ConverterTypeMetadata::of);
 			}
 
-			return Streamable.of(register(converter, arguments[0], arguments[1], isReading, isWriting));
-		}
-
-		private ConverterRegistration register(Object converter, Class<?> source, Class<?> target, boolean isReading,
-				boolean isWriting) {
-			return register(converter, new ConvertiblePair(source, target), isReading, isWriting);
+			return metadata;
 		}
 
 		private ConverterRegistration register(Object converter, ConvertiblePair pair, boolean isReading,
@@ -897,6 +892,58 @@ public class CustomConversions {
 		}
 	}
 
+	/**
+	 * Type-level metadata of a converter: whether it is annotated with {@link ReadingConverter} or
+	 * {@link WritingConverter} and the {@link ConvertiblePair} resolved from its {@link Converter} or
+	 * {@link ConverterFactory} generics.
+	 *
+	 * @param converterType the converter type.
+	 * @param reading whether the converter type is annotated with {@link ReadingConverter}.
+	 * @param writing whether the converter type is annotated with {@link WritingConverter}.
+	 * @param convertiblePair the resolved {@link ConvertiblePair}, {@literal null} if the type is neither a
+	 *          {@link Converter} nor a {@link ConverterFactory} or if its generics cannot be resolved.
+	 * @since 3.1
+	 */
+	private record ConverterTypeMetadata(Class<?> converterType, boolean reading, boolean writing,
+			@Nullable ConvertiblePair convertiblePair) {
+
+		static ConverterTypeMetadata of(Class<?> converterType) {
+
+			boolean isWriting = isAnnotatedWith(converterType, WritingConverter.class);
+			boolean isReading = isAnnotatedWith(converterType, ReadingConverter.class);
+
+			return new ConverterTypeMetadata(converterType, isReading, isWriting, resolveConvertiblePair(converterType));
+		}
+
+		ConvertiblePair getRequiredConvertiblePair() {
+
+			if (convertiblePair == null) {
+				throw new IllegalStateException(String.format("Couldn't resolve type arguments for %s", converterType));
+			}
+
+			return convertiblePair;
+		}
+
+		@Nullable
+		private static ConvertiblePair resolveConvertiblePair(Class<?> converterType) {
+
+			Class<?> genericType = ConverterFactory.class.isAssignableFrom(converterType) ? ConverterFactory.class
+					: Converter.class.isAssignableFrom(converterType) ? Converter.class : null;
+
+			if (genericType == null) {
+				return null;
+			}
+
+			Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(converterType, genericType);
+
+			return arguments == null ? null : new ConvertiblePair(arguments[0], arguments[1]);
+		}
+
+		private static boolean isAnnotatedWith(Class<?> type, Class<? extends Annotation> annotationType) {
+			return AnnotationUtils.findAnnotation(type, annotationType) != null;
+		}
+	}
+
 	/**
 	 * Value object holding the actual {@link StoreConversions} and custom {@link Converter converters} configured for
 	 * registration.
@@ -44,6 +44,8 @@ public class DefaultTypeMapper<S> implements TypeMapper<S>, BeanClassLoaderAware
 	private final TypeAliasAccessor<S> accessor;
 	private final List<? extends TypeInformationMapper> mappers;
 	private final Map<Alias, Optional<TypeInformation<?>>> typeCache;
+	private final Map<TypeInformation<?>, Alias> aliasCache;
+	private final Map<Class<?>, Alias> rawTypeAliasCache;
 
 	private final Function<Alias, Optional<TypeInformation<?>>> getAlias;
 
@@ -93,6 +95,8 @@ public class DefaultTypeMapper<S> implements TypeMapper<S>, BeanClassLoaderAware
 		this.mappers = Collections.unmodifiableList(mappers);
 		this.accessor = accessor;
 		this.typeCache = new ConcurrentHashMap<>();
+		this.aliasCache = new ConcurrentHashMap<>();
+		this.rawTypeAliasCache = new ConcurrentHashMap<>();
 		this.getAlias = key -> {
 
 			for (TypeInformationMapper mapper : mappers) {
@@ -189,7 +193,16 @@ public class DefaultTypeMapper<S> implements TypeMapper<S>, BeanClassLoaderAware
 
 	@Override
 	public void writeType(Class<?> type, S dbObject) {
-		writeType(TypeInformation.of(type), dbObject);
+
+		Assert.notNull(type, "Type must not be null");
+
+		Alias alias = rawTypeAliasCache.get(type);
+
+		if (alias == null) {
+			alias = rawTypeAliasCache.computeIfAbsent(type, it -> getAliasFor(TypeInformation.of(it)));
+		}
+
+		writeAlias(alias, dbObject);
 	}
 
 	@Override
@@ -197,7 +210,11 @@ public class DefaultTypeMapper<S> implements TypeMapper<S>, BeanClassLoaderAware
 
 		Assert.notNull(info, "TypeInformation must not be null");
 
-		Alias alias = getAliasFor(info);
+		writeAlias(getAliasFor(info), sink);
+	}
+
+	private void writeAlias(Alias alias, S sink) {
+
 		if (alias.isPresent()) {
 			accessor.writeTypeTo(sink, alias.getValue());
 		}
@@ -213,16 +230,28 @@ public class DefaultTypeMapper<S> implements TypeMapper<S>, BeanClassLoaderAware
 	}
 
 	/**
-	 * Returns the alias to be used for the given {@link TypeInformation}.
+	 * Returns the alias to be used for the given {@link TypeInformation}. Aliases are resolved once per type and cached
+	 * afterwards, including the absence of an alias.
 	 *
 	 * @param info must not be {@literal null}
-	 * @return the alias for the given {@link TypeInformation} or {@literal null} of none was found or all mappers
-	 *         returned {@literal null}.
+	 * @return the alias for the given {@link TypeInformation} or {@link Alias#NONE} of none was found or all mappers
+	 *         returned {@link Alias#NONE}.
 	 */
 	protected final Alias getAliasFor(TypeInformation<?> info) {
 
 		Assert.notNull(info, "TypeInformation must not be null");
 
+		Alias alias = aliasCache.get(info);
+
+		if (alias == null) {
+			alias = aliasCache.computeIfAbsent(info, this::createAliasFor);
+		}
+
+		return alias;
+	}
+
+	private Alias createAliasFor(TypeInformation<?> info) {
+
 		for (TypeInformationMapper mapper : mappers) {
 
 			Alias alias = mapper.createAliasFor(info);
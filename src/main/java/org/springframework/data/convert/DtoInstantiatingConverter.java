@@ -15,6 +15,11 @@
  */
 package org.springframework.data.convert;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mapping.InstanceCreatorMetadata;
 import org.springframework.data.mapping.Parameter;
@@ -29,6 +34,7 @@ import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * Spring {@link Converter} to create instances of the given DTO type from the source value handed into the conversion.
@@ -42,6 +48,7 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 	private final Class<?> targetType;
 	private final MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> context;
 	private final EntityInstantiator instantiator;
+	private final Map<Class<?>, MappingPlan> plans = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Create a new {@link Converter} to instantiate DTOs.
@@ -71,30 +78,37 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 			return source;
 		}
 
-		PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity = context
-				.getRequiredPersistentEntity(source.getClass());
-		PersistentPropertyAccessor<Object> sourceAccessor = sourceEntity.getPropertyAccessor(source);
+		MappingPlan plan = plans.get(source.getClass());
+
+		if (plan == null) {
+			plan = plans.computeIfAbsent(source.getClass(), this::createMappingPlan);
+		}
+
+		return plan.map(source, instantiator);
+	}
+
+	private MappingPlan createMappingPlan(Class<?> sourceType) {
+
+		PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity = context.getRequiredPersistentEntity(sourceType);
 		PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity = context.getRequiredPersistentEntity(targetType);
+		InstanceCreatorMetadata<? extends PersistentProperty<?>> creator = targetEntity.getInstanceCreatorMetadata();
 
-		@SuppressWarnings({ "rawtypes", "unchecked" })
-		Object dto = instantiator.createInstance(targetEntity, new ParameterValueProvider() {
+		Map<String, PersistentProperty<?>> creatorArguments = new HashMap<>();
 
-			@Override
-			@Nullable
-			public Object getParameterValue(Parameter parameter) {
+		if (creator != null) {
+
+			for (Parameter<?, ? extends PersistentProperty<?>> parameter : creator.getParameters()) {
 
 				String name = parameter.getName();
+				PersistentProperty<?> property = name != null ? sourceEntity.getPersistentProperty(name) : null;
 
-				if (name == null) {
-					throw new IllegalArgumentException(String.format("Parameter %s does not have a name", parameter));
+				if (property != null) {
+					creatorArguments.put(name, property);
 				}
-
-				return sourceAccessor.getProperty(sourceEntity.getRequiredPersistentProperty(name));
 			}
-		});
+		}
 
-		PersistentPropertyAccessor<Object> targetAccessor = targetEntity.getPropertyAccessor(dto);
-		InstanceCreatorMetadata<? extends PersistentProperty<?>> creator = targetEntity.getInstanceCreatorMetadata();
+		List<PropertyMapping> propertyMappings = new ArrayList<>();
 
 		targetEntity.doWithProperties((SimplePropertyHandler) property -> {
 
@@ -102,10 +116,60 @@ public class DtoInstantiatingConverter implements Converter<Object, Object> {
 				return;
 			}
 
-			targetAccessor.setProperty(property,
-					sourceAccessor.getProperty(sourceEntity.getRequiredPersistentProperty(property.getName())));
+			propertyMappings.add(
+					new PropertyMapping(sourceEntity.getRequiredPersistentProperty(property.getName()), property));
 		});
 
-		return dto;
+		return new MappingPlan(sourceEntity, targetEntity, creatorArguments,
+				propertyMappings.toArray(new PropertyMapping[0]));
+	}
+
+	/**
+	 * Precomputed mapping from a source type to the DTO type. Resolves the source properties backing creator arguments
+	 * and the pairs of source and target properties to copy once per source type so that the actual conversion does not
+	 * need to look up entities and properties by name.
+	 */
+	private record MappingPlan(PersistentEntity<?, ? extends PersistentProperty<?>> sourceEntity,
+			PersistentEntity<?, ? extends PersistentProperty<?>> targetEntity,
+			Map<String, PersistentProperty<?>> creatorArguments, PropertyMapping[] propertyMappings) {
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Object map(Object source, EntityInstantiator instantiator) {
+
+			PersistentPropertyAccessor<Object> sourceAccessor = sourceEntity.getPropertyAccessor(source);
+
+			Object dto = instantiator.createInstance(targetEntity, new ParameterValueProvider() {
+
+				@Override
+				@Nullable
+				public Object getParameterValue(Parameter parameter) {
+
+					String name = parameter.getName();
+
+					if (name == null) {
+						throw new IllegalArgumentException(String.format("Parameter %s does not have a name", parameter));
+					}
+
+					PersistentProperty<?> property = creatorArguments.get(name);
+
+					return sourceAccessor
+							.getProperty(property != null ? property : sourceEntity.getRequiredPersistentProperty(name));
+				}
+			});
+
+			if (propertyMappings.length == 0) {
+				return dto;
+			}
+
+			PersistentPropertyAccessor<Object> targetAccessor = targetEntity.getPropertyAccessor(dto);
+
+			for (PropertyMapping mapping : propertyMappings) {
+				targetAccessor.setProperty(mapping.target(), sourceAccessor.getProperty(mapping.source()));
+			}
+
+			return dto;
+		}
 	}
+
+	private record PropertyMapping(PersistentProperty<?> source, PersistentProperty<?> target) {}
 }
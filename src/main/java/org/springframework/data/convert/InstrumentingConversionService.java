@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConversionService} decorator reporting conversions to a {@link ConversionListener}. Conversions are considered
+ * custom if {@link CustomConversions} registers a reading or writing converter for the converted
+ * {@link ConvertiblePair}, all other conversions are reported as fallback to the delegate {@link ConversionService}.
+ * <p>
+ * Instrumentation is opt-in: use this decorator in place of the store's {@link ConversionService}, e.g. when creating a
+ * {@link org.springframework.data.mapping.model.ConvertingPropertyAccessor}.
+ *
+ * @since 3.1
+ * @see ConversionMetrics
+ */
+public class InstrumentingConversionService implements ConversionService {
+
+	private final ConversionService delegate;
+	private final CustomConversions conversions;
+	private final ConversionListener listener;
+
+	/**
+	 * Creates a new {@link InstrumentingConversionService} for the given delegate {@link ConversionService},
+	 * {@link CustomConversions} and {@link ConversionListener}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param conversions must not be {@literal null}.
+	 * @param listener must not be {@literal null}.
+	 */
+	public InstrumentingConversionService(ConversionService delegate, CustomConversions conversions,
+			ConversionListener listener) {
+
+		Assert.notNull(delegate, "ConversionService must not be null");
+		Assert.notNull(conversions, "CustomConversions must not be null");
+		Assert.notNull(listener, "ConversionListener must not be null");
+
+		this.delegate = delegate;
+		this.conversions = conversions;
+		this.listener = listener;
+	}
+
+	@Override
+	public boolean canConvert(@Nullable Class<?> sourceType, Class<?> targetType) {
+		return delegate.canConvert(sourceType, targetType);
+	}
+
+	@Override
+	public boolean canConvert(@Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+		return delegate.canConvert(sourceType, targetType);
+	}
+
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T convert(@Nullable Object source, Class<T> targetType) {
+
+		if (source == null) {
+			return delegate.convert(null, targetType);
+		}
+
+		return (T) convert(new ConvertiblePair(source.getClass(), targetType),
+				() -> delegate.convert(source, targetType));
+	}
+
+	@Nullable
+	@Override
+	public Object convert(@Nullable Object source, @Nullable TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+		if (source == null || sourceType == null) {
+			return delegate.convert(source, sourceType, targetType);
+		}
+
+		return convert(new ConvertiblePair(sourceType.getObjectType(), targetType.getObjectType()),
+				() -> delegate.convert(source, sourceType, targetType));
+	}
+
+	@Nullable
+	private Object convert(ConvertiblePair pair, Conversion conversion) {
+
+		boolean custom = isCustomConversion(pair);
+
+		if (!listener.shouldMeasure(pair)) {
+
+			Object result = conversion.convert();
+			report(pair, custom, -1);
+
+			return result;
+		}
+
+		long start = System.nanoTime();
+		Object result = conversion.convert();
+		report(pair, custom, System.nanoTime() - start);
+
+		return result;
+	}
+
+	private boolean isCustomConversion(ConvertiblePair pair) {
+
+		Class<?> sourceType = pair.getSourceType();
+		Class<?> targetType = pair.getTargetType();
+
+		return conversions.hasCustomReadTarget(sourceType, targetType)
+				|| conversions.hasCustomWriteTarget(sourceType, targetType);
+	}
+
+	private void report(ConvertiblePair pair, boolean custom, long durationNanos) {
+
+		if (custom) {
+			listener.onConversion(pair, durationNanos);
+		} else {
+			listener.onFallback(pair, durationNanos);
+		}
+	}
+
+	private interface Conversion {
+
+		@Nullable
+		Object convert();
+	}
+}
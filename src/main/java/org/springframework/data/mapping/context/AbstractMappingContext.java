@@ -41,8 +41,11 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.NativeDetector;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.domain.ManagedTypes;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentEntity;
@@ -90,7 +93,8 @@ import org.springframework.util.ReflectionUtils.FieldFilter;
  * @author Christoph Strobl
  */
 public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?, P>, P extends PersistentProperty<P>>
-		implements MappingContext<E, P>, ApplicationEventPublisherAware, ApplicationContextAware, InitializingBean {
+		implements MappingContext<E, P>, ApplicationEventPublisherAware, ApplicationContextAware, ApplicationStartupAware,
+		InitializingBean {
 
 	private static final Log LOGGER = LogFactory.getLog(MappingContext.class);
 
@@ -101,6 +105,7 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 
 	private @Nullable ApplicationEventPublisher applicationEventPublisher;
 	private EvaluationContextProvider evaluationContextProvider = EvaluationContextProvider.DEFAULT;
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
 
 	private ManagedTypes managedTypes = ManagedTypes.empty();
 
@@ -129,6 +134,11 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
@@ -376,7 +386,14 @@ public abstract class AbstractMappingContext<E extends MutablePersistentEntity<?
 				return userTypeEntity;
 			}
 
-			entity = doAddPersistentEntity(typeInformation);
+			StartupStep entityCreation = applicationStartup.start("spring.data.mapping.entity");
+			entityCreation.tag("type", typeInformation.getType().getName());
+
+			try {
+				entity = doAddPersistentEntity(typeInformation);
+			} finally {
+				entityCreation.end();
+			}
 
 		} catch (BeansException e) {
 			throw new MappingException(e.getMessage(), e);
@@ -98,6 +98,11 @@ public class QuerydslRepositoryInvokerAdapter implements RepositoryInvoker {
 		return delegate.invokeFindById(id);
 	}
 
+	@Override
+	public Iterable<Object> invokeFindAllById(Iterable<?> ids) {
+		return delegate.invokeFindAllById(ids);
+	}
+
 	@Override
 	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
 			Pageable pageable, Sort sort) {
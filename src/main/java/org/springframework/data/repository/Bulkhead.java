@@ -0,0 +1,75 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to limit the number of concurrent invocations of repository methods. Annotating a repository interface
+ * limits invocations of all its methods together, annotating a method limits invocations of that method only. Method
+ * level limits take precedence over the repository limit.
+ * <p>
+ * Invocations exceeding the limit wait for up to {@link #maxWaitTime()} if fewer than {@link #maxWaitingCalls()}
+ * invocations are already waiting and are rejected with a
+ * {@link org.springframework.data.repository.core.support.BulkheadFullException} otherwise.
+ * <p>
+ * Requires {@link org.springframework.data.repository.core.support.BulkheadRepositoryProxyPostProcessor} to be
+ * registered with the repository factory. Invocations wait outside of transactions started for the repository
+ * invocation itself but within transactions of the caller.
+ *
+ * @since 3.1
+ * @see org.springframework.data.repository.core.support.BulkheadRepositoryProxyPostProcessor
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface Bulkhead {
+
+	/**
+	 * Maximum number of concurrently running invocations.
+	 *
+	 * @return the maximum number of concurrent invocations.
+	 */
+	int maxConcurrentCalls();
+
+	/**
+	 * Maximum number of invocations waiting for a running invocation to complete.
+	 *
+	 * @return the maximum number of waiting invocations. Defaults to zero, rejecting invocations immediately once
+	 *         {@link #maxConcurrentCalls()} is reached.
+	 */
+	int maxWaitingCalls() default 0;
+
+	/**
+	 * Maximum time an invocation waits in {@link #timeUnit()}. Setting it to zero lets waiting invocations wait without
+	 * any time limit until a running invocation completes.
+	 *
+	 * @return the maximum wait time. Defaults to one second.
+	 */
+	long maxWaitTime() default 1000;
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #maxWaitTime()}.
+	 *
+	 * @return the time unit. Defaults to {@link TimeUnit#MILLISECONDS}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+}
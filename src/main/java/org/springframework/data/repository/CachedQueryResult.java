@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation to cache the result of a repository method keyed by its invocation arguments. Cached results of a
+ * repository are invalidated when a save or delete method is invoked on the same repository. Results are shared
+ * between callers and must therefore not be modified.
+ * <p>
+ * Requires {@link org.springframework.data.repository.core.support.QueryResultCachingRepositoryProxyPostProcessor} to
+ * be registered with the repository factory.
+ *
+ * @since 3.1
+ * @see org.springframework.data.repository.core.support.QueryResultCachingRepositoryProxyPostProcessor
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedQueryResult {
+
+	/**
+	 * Time to live of cached results in {@link #timeUnit()}. Results are kept until eviction or invalidation if zero.
+	 *
+	 * @return the time to live. Defaults to zero.
+	 */
+	long timeToLive() default 0;
+
+	/**
+	 * The {@link TimeUnit} to use for {@link #timeToLive()}.
+	 *
+	 * @return the time unit. Defaults to {@link TimeUnit#SECONDS}.
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+	/**
+	 * Maximum number of results to cache for the annotated method. The least recently used result is evicted once the
+	 * size is exceeded.
+	 *
+	 * @return the maximum number of cached results. Defaults to {@literal 1000}.
+	 */
+	int maxSize() default 1000;
+}
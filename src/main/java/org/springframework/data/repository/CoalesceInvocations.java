@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to coalesce concurrent invocations of a repository method with equal arguments into a single execution
+ * whose result is handed to all callers. Annotating a repository interface applies coalescing to all of its query and
+ * base class methods except save, delete and {@code @Modifying} methods. Custom implementation methods are not
+ * coalesced unless annotated explicitly.
+ * <p>
+ * Callers waiting for a coalesced invocation receive the result obtained by the invocation in progress, regardless of
+ * the transaction they run in. Results are shared between callers and must therefore not be modified.
+ * <p>
+ * Requires
+ * {@link org.springframework.data.repository.core.support.InvocationCoalescingRepositoryProxyPostProcessor} to be
+ * registered with the repository factory.
+ *
+ * @since 3.1
+ * @see org.springframework.data.repository.core.support.InvocationCoalescingRepositoryProxyPostProcessor
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CoalesceInvocations {}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Initializes Spring Data repositories in the background once all non-lazy singletons, and thereby the infrastructure
+ * repositories depend on, are instantiated. Repository factory beans are obtained on the bootstrap thread, the actual
+ * repository creation is performed on a background thread. As repository creation locks the container's singleton
+ * mutex, repositories are created one at a time. Initialization is awaited once the application context has been
+ * refreshed and failures are reported in repository registration order. Pending initializations are cancelled if the
+ * application context is closed before.
+ *
+ * @since 3.1
+ * @see BootstrapMode#BACKGROUND
+ */
+class BackgroundRepositoryInitializer implements SmartInitializingSingleton,
+		ApplicationListener<ContextRefreshedEvent>, BeanFactoryAware, DisposableBean, Ordered {
+
+	private static final Log logger = LogFactory.getLog(BackgroundRepositoryInitializer.class);
+
+	private final Map<String, CompletableFuture<?>> initializations = new LinkedHashMap<>();
+	private @Nullable ListableBeanFactory beanFactory;
+	private @Nullable ExecutorService executor;
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) {
+
+		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory);
+
+		this.beanFactory = (ListableBeanFactory) beanFactory;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		Assert.state(beanFactory != null, "BeanFactory must not be null");
+
+		String[] beanNames = beanFactory.getBeanNamesForType(RepositoryFactoryInformation.class, false, false);
+
+		if (beanNames.length == 0) {
+			return;
+		}
+
+		logger.info(String.format("Triggering background initialization of %s Spring Data repositories…", beanNames.length));
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("spring-data-repository-init-");
+		threadFactory.setDaemon(true);
+
+		this.executor = Executors.newSingleThreadExecutor(threadFactory);
+
+		for (String beanName : beanNames) {
+			initializations.put(BeanFactoryUtils.transformedBeanName(beanName), initialize(beanFactory, beanName, executor));
+		}
+	}
+
+	private static CompletableFuture<?> initialize(BeanFactory beanFactory, String beanName, ExecutorService executor) {
+
+		Object bean;
+
+		try {
+			bean = beanFactory.getBean(beanName);
+		} catch (RuntimeException o_O) {
+			return CompletableFuture.failedFuture(o_O);
+		}
+
+		if (!(bean instanceof FactoryBean<?> factoryBean)) {
+			return CompletableFuture.completedFuture(bean);
+		}
+
+		return CompletableFuture.supplyAsync(() -> {
+
+			try {
+				return factoryBean.getObject();
+			} catch (Exception o_O) {
+				throw new CompletionException(o_O);
+			}
+		}, executor);
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (initializations.isEmpty()) {
+			return;
+		}
+
+		BeanCreationException failure = null;
+
+		try {
+
+			for (Map.Entry<String, CompletableFuture<?>> initialization : initializations.entrySet()) {
+
+				try {
+					initialization.getValue().join();
+				} catch (CompletionException o_O) {
+
+					BeanCreationException exception = new BeanCreationException(initialization.getKey(),
+							"Background initialization of repository failed", o_O.getCause());
+
+					if (failure == null) {
+						failure = exception;
+					} else {
+						failure.addSuppressed(exception);
+					}
+				}
+			}
+		} finally {
+			shutdown();
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		logger.info("Spring Data repositories initialized");
+	}
+
+	@Override
+	public void destroy() {
+
+		initializations.values().forEach(it -> it.cancel(false));
+
+		shutdown();
+	}
+
+	private void shutdown() {
+
+		initializations.clear();
+
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+}
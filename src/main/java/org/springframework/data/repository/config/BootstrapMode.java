@@ -37,6 +37,16 @@ public enum BootstrapMode {
 	 */
 	DEFERRED,
 
+	/**
+	 * Repository bean definitions are considered lazy and clients will get repository proxies injected that will
+	 * initialize on first access. Once all non-lazy singletons are instantiated, repositories are initialized on a
+	 * background thread. Application context bootstrap completion waits for all repositories to be initialized and
+	 * reports initialization failures in repository registration order.
+	 *
+	 * @since 3.1
+	 */
+	BACKGROUND,
+
 	/**
 	 * Repository bean definitions are considered lazy, lazily inject and only initialized on first use, i.e. the
 	 * application might have fully started without the repositories initialized.
@@ -36,6 +36,7 @@ import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.Environment;
@@ -171,7 +172,15 @@ public class RepositoryConfigurationDelegate {
 
 			configurationsByRepositoryName.put(configuration.getRepositoryInterface(), configuration);
 
-			BeanDefinitionBuilder definitionBuilder = builder.build(configuration);
+			StartupStep fragments = startup.start("spring.data.repository.fragments");
+			fragments.tag("repository", configuration.getRepositoryInterface());
+			BeanDefinitionBuilder definitionBuilder;
+
+			try {
+				definitionBuilder = builder.build(configuration);
+			} finally {
+				fragments.end();
+			}
 
 			extension.postProcess(definitionBuilder, configurationSource);
 
@@ -272,6 +281,18 @@ public class RepositoryConfigurationDelegate {
 			beanFactory.registerSingleton(DeferredRepositoryInitializationListener.class.getName(),
 					new DeferredRepositoryInitializationListener(beanFactory));
 		}
+
+		String initializerBeanName = BackgroundRepositoryInitializer.class.getName();
+
+		if (mode.equals(BootstrapMode.BACKGROUND) && !beanFactory.containsBeanDefinition(initializerBeanName)) {
+
+			logger.debug("Registering background repository initializer.");
+
+			RootBeanDefinition initializer = new RootBeanDefinition(BackgroundRepositoryInitializer.class);
+			initializer.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+
+			beanFactory.registerBeanDefinition(initializerBeanName, initializer);
+		}
 	}
 
 	/**
@@ -17,6 +17,7 @@ package org.springframework.data.repository.config;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -325,13 +326,39 @@ public class RepositoryRegistrationAotContribution implements BeanRegistrationAo
 		}
 
 		// Repository query methods
-		repositoryInformation.getQueryMethods().map(repositoryInformation::getReturnedDomainClass)
-				.filter(Class::isInterface).forEach(type -> {
-					if (EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy().test(type,
-							repositoryInformation.getDomainType())) {
-						contributeProjection(type, contribution);
-					}
-				});
+		repositoryInformation.getQueryMethods()
+				.forEach(method -> contributeQueryMethod(method, repositoryInformation, contribution));
+	}
+
+	/**
+	 * Contributes runtime hints for the types resolved from a query method signature: proxies for interface-based
+	 * projections, reflection for DTO projections and parameter types that are not part of the Java or Spring Data type
+	 * system. Query method metadata itself is still resolved at runtime.
+	 */
+	private void contributeQueryMethod(Method method, RepositoryInformation repositoryInformation,
+			GenerationContext contribution) {
+
+		Class<?> returnedType = repositoryInformation.getReturnedDomainClass(method);
+
+		if (EntityProjectionIntrospector.ProjectionPredicate.typeHierarchy().test(returnedType,
+				repositoryInformation.getDomainType())) {
+
+			if (returnedType.isInterface()) {
+				contributeProjection(returnedType, contribution);
+			} else if (isQueryMethodContributionCandidate(returnedType)) {
+				TypeContributor.contribute(returnedType, contribution);
+			}
+		}
+
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			if (isQueryMethodContributionCandidate(parameterType)) {
+				TypeContributor.contribute(parameterType, contribution);
+			}
+		}
+	}
+
+	private static boolean isQueryMethodContributionCandidate(Class<?> type) {
+		return !isJavaOrPrimitiveType(type) && !TypeUtils.type(type).isPartOf(TypeContributor.DATA_NAMESPACE);
 	}
 
 	private boolean isComponentAnnotatedRepository(RepositoryInformation repositoryInformation) {
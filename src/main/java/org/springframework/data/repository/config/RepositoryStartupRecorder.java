@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.config;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationStartup} recording the time spent in Spring Data startup steps ({@code spring.data.*}) per
+ * repository while delegating all steps to another {@link ApplicationStartup}. Register it with the application
+ * context before refreshing it and obtain the {@link RepositoryStartupReport} once the context has been refreshed:
+ *
+ * <pre class="code">
+ * RepositoryStartupRecorder recorder = new RepositoryStartupRecorder();
+ * context.setApplicationStartup(recorder);
+ * context.refresh();
+ *
+ * logger.info(recorder.getReport());
+ * </pre>
+ *
+ * Steps are attributed to the repository tagged on them or on their enclosing step. Times recorded are self times,
+ * that is, time spent in nested Spring Data steps is reported for the nested step only. Steps whose work ran on another
+ * thread report its ISO-8601 duration through a {@code duration} tag, which is then recorded instead of the time the step
+ * was open for and not considered self time of the enclosing step.
+ *
+ * @since 3.1
+ * @see RepositoryStartupReport
+ */
+public class RepositoryStartupRecorder implements ApplicationStartup {
+
+	private static final String STEP_PREFIX = "spring.data.";
+	private static final String REPOSITORY_TAG = "repository";
+	private static final String MODULE_TAG = "dataModule";
+	private static final String DURATION_TAG = "duration";
+
+	private final ApplicationStartup delegate;
+	private final ThreadLocal<Deque<RecordingStep>> steps = ThreadLocal.withInitial(ArrayDeque::new);
+
+	private final Map<String, Long> scanning = new LinkedHashMap<>();
+	private final Map<String, Map<String, Long>> repositories = new LinkedHashMap<>();
+	private final Map<String, Long> unattributed = new LinkedHashMap<>();
+
+	/**
+	 * Creates a new {@link RepositoryStartupRecorder} delegating to {@link ApplicationStartup#DEFAULT}.
+	 */
+	public RepositoryStartupRecorder() {
+		this(ApplicationStartup.DEFAULT);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryStartupRecorder} delegating to the given {@link ApplicationStartup}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public RepositoryStartupRecorder(ApplicationStartup delegate) {
+
+		Assert.notNull(delegate, "Delegate ApplicationStartup must not be null");
+
+		this.delegate = delegate;
+	}
+
+	@Override
+	public StartupStep start(String name) {
+
+		StartupStep step = delegate.start(name);
+
+		if (!name.startsWith(STEP_PREFIX)) {
+			return step;
+		}
+
+		Deque<RecordingStep> current = steps.get();
+		RecordingStep recording = new RecordingStep(name, step, current.peek());
+		current.push(recording);
+
+		return recording;
+	}
+
+	/**
+	 * Returns a snapshot of the startup times recorded so far.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public RepositoryStartupReport getReport() {
+
+		synchronized (repositories) {
+			return new RepositoryStartupReport(scanning, repositories, unattributed);
+		}
+	}
+
+	private void record(RecordingStep step, long nanos) {
+
+		String repository = step.getRepository();
+
+		synchronized (repositories) {
+
+			if (repository != null) {
+				repositories.computeIfAbsent(repository, it -> new LinkedHashMap<>()).merge(step.getName(), nanos, Long::sum);
+			} else if (step.module != null) {
+				scanning.merge(step.module, nanos, Long::sum);
+			} else {
+				unattributed.merge(step.getName(), nanos, Long::sum);
+			}
+		}
+	}
+
+	private void finish(RecordingStep step) {
+
+		Deque<RecordingStep> current = steps.get();
+		current.remove(step);
+
+		if (current.isEmpty()) {
+			steps.remove();
+		}
+	}
+
+	@Nullable
+	private static Long parseDuration(String value) {
+
+		try {
+			return Duration.parse(value).toNanos();
+		} catch (DateTimeParseException o_O) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@link StartupStep} capturing the tags relevant for attribution and measuring its own duration.
+	 */
+	private class RecordingStep implements StartupStep {
+
+		private final String name;
+		private final StartupStep delegate;
+		private final @Nullable RecordingStep parent;
+		private final long started = System.nanoTime();
+
+		private long nested;
+		private @Nullable String repository;
+		private @Nullable String module;
+		private @Nullable Long duration;
+
+		RecordingStep(String name, StartupStep delegate, @Nullable RecordingStep parent) {
+
+			this.name = name;
+			this.delegate = delegate;
+			this.parent = parent;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public long getId() {
+			return delegate.getId();
+		}
+
+		@Override
+		@Nullable
+		public Long getParentId() {
+			return delegate.getParentId();
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+
+			if (REPOSITORY_TAG.equals(key)) {
+				repository = value;
+			} else if (MODULE_TAG.equals(key)) {
+				module = value;
+			} else if (DURATION_TAG.equals(key)) {
+				duration = parseDuration(value);
+			}
+
+			delegate.tag(key, value);
+
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+
+			if (REPOSITORY_TAG.equals(key) || MODULE_TAG.equals(key) || DURATION_TAG.equals(key)) {
+				return tag(key, value.get());
+			}
+
+			delegate.tag(key, value);
+
+			return this;
+		}
+
+		@Override
+		public Tags getTags() {
+			return delegate.getTags();
+		}
+
+		@Override
+		public void end() {
+
+			long elapsed = duration != null ? duration : System.nanoTime() - started;
+
+			delegate.end();
+			finish(this);
+
+			if (parent != null) {
+				parent.nested += elapsed;
+			}
+
+			record(this, Math.max(0, elapsed - nested));
+		}
+
+		@Nullable
+		String getRepository() {
+			return repository != null ? repository : parent != null ? parent.getRepository() : null;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of the time spent bootstrapping Spring Data repositories as recorded by a {@link RepositoryStartupRecorder}.
+ * Times are broken down per repository interface and startup step, e.g.:
+ * <ul>
+ * <li>{@code spring.data.repository.fragments} – repository fragment detection during configuration</li>
+ * <li>{@code spring.data.mapping.entity} – {@link org.springframework.data.mapping.context.MappingContext} entity
+ * creation</li>
+ * <li>{@code spring.data.repository.query} – query method creation</li>
+ * <li>{@code spring.data.repository.proxy} – proxy creation</li>
+ * <li>{@code spring.data.repository.postprocessor} –
+ * {@link org.springframework.data.repository.core.support.RepositoryProxyPostProcessor} application</li>
+ * </ul>
+ * Repository scanning is reported per store module. {@link #toString()} renders the report suitable for logging.
+ *
+ * @since 3.1
+ */
+public class RepositoryStartupReport {
+
+	private final Map<String, Duration> scanning;
+	private final Map<String, Map<String, Duration>> repositories;
+	private final Map<String, Duration> unattributed;
+
+	RepositoryStartupReport(Map<String, Long> scanning, Map<String, Map<String, Long>> repositories,
+			Map<String, Long> unattributed) {
+
+		this.scanning = toDurations(scanning);
+		this.unattributed = toDurations(unattributed);
+
+		Map<String, Map<String, Duration>> steps = new LinkedHashMap<>(repositories.size());
+		repositories.forEach((repository, times) -> steps.put(repository, toDurations(times)));
+
+		this.repositories = Collections.unmodifiableMap(steps);
+	}
+
+	/**
+	 * Returns the time spent scanning for repositories by store module name.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, Duration> getScanning() {
+		return scanning;
+	}
+
+	/**
+	 * Returns the time spent per startup step by repository interface name.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, Map<String, Duration>> getRepositories() {
+		return repositories;
+	}
+
+	/**
+	 * Returns the total time spent bootstrapping the repository with the given interface name.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getTotal(String repositoryInterface) {
+		return repositories.getOrDefault(repositoryInterface, Collections.emptyMap()).values().stream() //
+				.reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * Returns the time spent in Spring Data startup steps that could not be attributed to a repository, e.g. creation of
+	 * initial entities by a {@link org.springframework.data.mapping.context.MappingContext}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Map<String, Duration> getUnattributed() {
+		return unattributed;
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder builder = new StringBuilder("Spring Data repository startup report");
+
+		scanning.forEach((module, duration) -> append(builder, "  Scanning " + module, duration));
+
+		repositories.keySet().stream() //
+				.sorted(Comparator.comparing(this::getTotal).reversed()) //
+				.forEach(repository -> {
+
+					append(builder, "  " + repository, getTotal(repository));
+					repositories.get(repository).forEach((step, duration) -> append(builder, "    " + step, duration));
+				});
+
+		unattributed.forEach((step, duration) -> append(builder, "  Unattributed " + step, duration));
+
+		return builder.toString();
+	}
+
+	private static void append(StringBuilder builder, String label, Duration duration) {
+		builder.append(System.lineSeparator()).append(String.format("%s: %.3f ms", label, duration.toNanos() / 1_000_000d));
+	}
+
+	private static Map<String, Duration> toDurations(Map<String, Long> nanos) {
+
+		Map<String, Duration> durations = new LinkedHashMap<>(nanos.size());
+		nanos.forEach((key, value) -> durations.put(key, Duration.ofNanos(value)));
+
+		return Collections.unmodifiableMap(durations);
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.interceptor.AsyncExecutionInterceptor;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link MethodInterceptor} executing repository methods declaring a {@link Future} return type (including
+ * {@link java.util.concurrent.CompletableFuture} and {@link org.springframework.util.concurrent.ListenableFuture}) on
+ * an {@link Executor}. Methods with other return types are invoked on the calling thread.
+ * <p>
+ * Invocations participating in transaction synchronization on the calling thread are invoked synchronously as
+ * transactional resources are bound to the calling thread and would not be visible to the executing thread. Other
+ * thread-bound context (such as security context) is expected to be propagated by the {@link Executor} itself.
+ *
+ * @since 3.1
+ * @see RepositoryFactorySupport#setAsyncExecutor(Executor)
+ */
+class AsyncRepositoryMethodInterceptor implements MethodInterceptor {
+
+	private static final boolean TRANSACTIONS_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			AsyncRepositoryMethodInterceptor.class.getClassLoader());
+
+	private final AsyncExecutionInterceptor delegate;
+
+	/**
+	 * Creates a new {@link AsyncRepositoryMethodInterceptor} for the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 */
+	AsyncRepositoryMethodInterceptor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.delegate = new AsyncExecutionInterceptor(executor);
+	}
+
+	@Nullable
+	@Override
+	public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+		if (!Future.class.isAssignableFrom(invocation.getMethod().getReturnType()) || isSynchronizationActive()) {
+			return invocation.proceed();
+		}
+
+		return delegate.invoke(invocation);
+	}
+
+	private static boolean isSynchronizationActive() {
+		return TRANSACTIONS_PRESENT && TransactionSynchronizationManager.isSynchronizationActive();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * Exception thrown when a repository method invocation is rejected because the concurrency limit configured through
+ * {@link org.springframework.data.repository.Bulkhead} is exhausted.
+ *
+ * @since 3.1
+ * @see BulkheadRepositoryProxyPostProcessor
+ */
+@SuppressWarnings("serial")
+public class BulkheadFullException extends TransientDataAccessException {
+
+	private final int waitingCalls;
+	private final long waitTimeNanos;
+
+	/**
+	 * Constructor for BulkheadFullException.
+	 *
+	 * @param msg the detail message.
+	 * @param waitingCalls the number of invocations waiting at the time of rejection.
+	 * @param waitTimeNanos the time the rejected invocation waited in nanoseconds.
+	 */
+	public BulkheadFullException(String msg, int waitingCalls, long waitTimeNanos) {
+
+		super(msg);
+
+		this.waitingCalls = waitingCalls;
+		this.waitTimeNanos = waitTimeNanos;
+	}
+
+	/**
+	 * Returns the number of invocations waiting at the time of rejection.
+	 *
+	 * @return
+	 */
+	public int getWaitingCalls() {
+		return waitingCalls;
+	}
+
+	/**
+	 * Returns the time the rejected invocation waited before it was rejected.
+	 *
+	 * @param timeUnit must not be {@literal null}.
+	 * @return
+	 */
+	public long getWaitTime(TimeUnit timeUnit) {
+		return timeUnit.convert(waitTimeNanos, TimeUnit.NANOSECONDS);
+	}
+}
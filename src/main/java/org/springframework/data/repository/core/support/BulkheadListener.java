@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * Listener notified about repository method invocations that had to wait for a permit of a
+ * {@link org.springframework.data.repository.Bulkhead} or were rejected by it. Notifications are issued before the
+ * invocation runs or fails and are independent of {@link RepositoryMethodInvocationListener} notifications about the
+ * invocation itself.
+ *
+ * @since 3.1
+ * @see BulkheadRepositoryProxyPostProcessor
+ */
+public interface BulkheadListener {
+
+	/**
+	 * Invoked when an invocation acquired a permit after waiting, right before it runs.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @param method the invoked method.
+	 * @param waitTime the time the invocation waited for its permit.
+	 * @param waitingCalls the number of waiting invocations, including this one, when it started waiting.
+	 */
+	default void afterWaiting(Class<?> repositoryInterface, Method method, Duration waitTime, int waitingCalls) {}
+
+	/**
+	 * Invoked when an invocation was rejected.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @param method the invoked method.
+	 * @param exception the {@link BulkheadFullException} the invocation is rejected with.
+	 */
+	default void afterRejection(Class<?> repositoryInterface, Method method, BulkheadFullException exception) {}
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.reactivestreams.Publisher;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Bulkhead;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.util.ReactiveWrapperConverters;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} limiting the number of concurrent repository method invocations as configured
+ * through {@link Bulkhead}. Invocations exceeding the limit wait in a bounded queue and are rejected with a
+ * {@link BulkheadFullException} if the queue is full or the maximum wait time elapses.
+ * <p>
+ * Imperative invocations hold their permit until the method returns, or until the returned {@link CompletableFuture}
+ * completes. Reactive invocations acquire their permit without blocking upon subscription and hold it until the
+ * returned publisher terminates or gets canceled. Note that methods returning a {@link java.util.stream.Stream} release
+ * their permit when returning the stream.
+ * <p>
+ * Invocations that had to wait for a permit and rejected invocations are reported to the configured
+ * {@link BulkheadListener}s. {@link #getStatistics()} exposes the current number of running and waiting invocations
+ * along with rejection and wait time counters.
+ * <p>
+ * The bulkhead advice is added ahead of the advice registered by other post processors, in particular the transaction
+ * advice of store modules, so that waiting invocations do not hold a transaction and thereby a connection.
+ *
+ * @since 3.1
+ * @see Bulkhead
+ */
+public class BulkheadRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final List<BulkheadListener> listeners;
+	private final List<ConcurrencyLimiter> limiters = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new {@link BulkheadRepositoryProxyPostProcessor} without listeners.
+	 */
+	public BulkheadRepositoryProxyPostProcessor() {
+		this(Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link BulkheadRepositoryProxyPostProcessor} reporting waiting and rejected invocations to the given
+	 * {@link BulkheadListener}s.
+	 *
+	 * @param listeners must not be {@literal null}.
+	 */
+	public BulkheadRepositoryProxyPostProcessor(BulkheadListener... listeners) {
+		this(Arrays.asList(listeners));
+	}
+
+	/**
+	 * Creates a new {@link BulkheadRepositoryProxyPostProcessor} reporting waiting and rejected invocations to the given
+	 * {@link BulkheadListener}s.
+	 *
+	 * @param listeners must not be {@literal null}.
+	 */
+	public BulkheadRepositoryProxyPostProcessor(List<BulkheadListener> listeners) {
+
+		Assert.notNull(listeners, "BulkheadListeners must not be null");
+
+		this.listeners = List.copyOf(listeners);
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+		Bulkhead repositoryBulkhead = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, Bulkhead.class);
+		ConcurrencyLimiter repositoryLimiter = repositoryBulkhead != null
+				? register(new ConcurrencyLimiter(repositoryInterface, null, repositoryBulkhead))
+				: null;
+
+		Map<Method, ConcurrencyLimiter> methodLimiters = new HashMap<>();
+
+		ReflectionUtils.doWithMethods(repositoryInterface, method -> {
+
+			Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+
+			if (bulkhead != null) {
+				methodLimiters.put(method, register(new ConcurrencyLimiter(repositoryInterface, method, bulkhead)));
+			} else if (repositoryLimiter != null) {
+				methodLimiters.put(method, repositoryLimiter);
+			}
+		}, ReflectionUtils.USER_DECLARED_METHODS);
+
+		if (methodLimiters.isEmpty()) {
+			return;
+		}
+
+		FindByIdBatchingRepositoryProxyPostProcessor.addOuterAdvice(factory,
+				new BulkheadMethodInterceptor(repositoryInterface, methodLimiters, listeners));
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of all bulkheads registered by this post processor.
+	 *
+	 * @return
+	 */
+	public List<BulkheadStatistics> getStatistics() {
+
+		List<BulkheadStatistics> result = new ArrayList<>(limiters.size());
+
+		for (ConcurrencyLimiter limiter : limiters) {
+			result.add(limiter.getStatistics());
+		}
+
+		return result;
+	}
+
+	private ConcurrencyLimiter register(ConcurrencyLimiter limiter) {
+
+		limiters.add(limiter);
+		return limiter;
+	}
+
+	/**
+	 * {@link MethodInterceptor} acquiring a permit from the {@link ConcurrencyLimiter} of the invoked method.
+	 */
+	static class BulkheadMethodInterceptor implements MethodInterceptor {
+
+		private final Class<?> repositoryInterface;
+		private final Map<Method, ConcurrencyLimiter> limiters;
+		private final List<BulkheadListener> listeners;
+
+		BulkheadMethodInterceptor(Class<?> repositoryInterface, Map<Method, ConcurrencyLimiter> limiters,
+				List<BulkheadListener> listeners) {
+
+			this.repositoryInterface = repositoryInterface;
+			this.limiters = limiters;
+			this.listeners = listeners;
+		}
+
+		@Nullable
+		@Override
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+			ConcurrencyLimiter limiter = limiters.get(method);
+
+			if (limiter == null) {
+				return invocation.proceed();
+			}
+
+			if (ReactiveWrappers.supports(method.getReturnType())) {
+				return invokeReactive(invocation, limiter);
+			}
+
+			Permit permit;
+
+			try {
+				permit = limiter.acquire();
+			} catch (BulkheadFullException o_O) {
+
+				notifyRejected(method, o_O);
+				throw o_O;
+			}
+
+			notifyWaited(method, permit);
+
+			Object result;
+
+			try {
+				result = invocation.proceed();
+			} catch (Throwable o_O) {
+
+				permit.release();
+				throw o_O;
+			}
+
+			// return the original future so that cancelling it reaches the invoked method
+			if (result instanceof CompletableFuture<?> future) {
+
+				future.whenComplete((value, error) -> permit.release());
+				return future;
+			}
+
+			permit.release();
+
+			return result;
+		}
+
+		@Nullable
+		private Object invokeReactive(MethodInvocation invocation, ConcurrencyLimiter limiter) throws Throwable {
+
+			Method method = invocation.getMethod();
+			Object result = invocation.proceed();
+
+			if (result == null) {
+				return null;
+			}
+
+			Mono<Permit> permit = limiter.acquireReactive() //
+					.doOnNext(it -> notifyWaited(method, it)) //
+					.doOnError(BulkheadFullException.class, it -> notifyRejected(method, it));
+
+			if (result instanceof Mono<?> mono) {
+				return Mono.usingWhen(permit, it -> mono, Permit::releaseAsync, (it, error) -> it.releaseAsync(),
+						Permit::releaseAsync);
+			}
+
+			Flux<?> source = ReactiveWrapperConverters.toWrapper(result, Flux.class);
+			Flux<?> flux = Flux.usingWhen(permit, it -> source, Permit::releaseAsync, (it, error) -> it.releaseAsync(),
+					Permit::releaseAsync);
+
+			return result instanceof Flux ? flux : ReactiveWrapperConverters.toWrapper(flux, method.getReturnType());
+		}
+
+		private void notifyWaited(Method method, Permit permit) {
+
+			if (permit.waitTimeNanos == 0) {
+				return;
+			}
+
+			Duration waitTime = Duration.ofNanos(permit.waitTimeNanos);
+
+			for (BulkheadListener listener : listeners) {
+				listener.afterWaiting(repositoryInterface, method, waitTime, permit.waitingCalls);
+			}
+		}
+
+		private void notifyRejected(Method method, BulkheadFullException exception) {
+
+			for (BulkheadListener listener : listeners) {
+				listener.afterRejection(repositoryInterface, method, exception);
+			}
+		}
+	}
+
+	/**
+	 * Limits concurrent invocations handing out {@link Permit}s to running invocations and keeping a bounded queue of
+	 * waiting invocations.
+	 */
+	static class ConcurrencyLimiter {
+
+		private final Class<?> repositoryInterface;
+		private final @Nullable Method method;
+		private final int maxConcurrentCalls;
+		private final int maxWaitingCalls;
+		private final long maxWaitNanos;
+
+		private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+		private int activeCalls;
+
+		private final LongAdder rejectedCalls = new LongAdder();
+		private final LongAdder waitedCalls = new LongAdder();
+		private final LongAdder waitTimeNanos = new LongAdder();
+
+		ConcurrencyLimiter(Class<?> repositoryInterface, @Nullable Method method, Bulkhead bulkhead) {
+
+			Object source = method != null ? method : repositoryInterface;
+
+			Assert.state(bulkhead.maxConcurrentCalls() > 0,
+					() -> String.format("Maximum concurrent calls of %s must be positive", source));
+			Assert.state(bulkhead.maxWaitingCalls() >= 0,
+					() -> String.format("Maximum waiting calls of %s must not be negative", source));
+			Assert.state(bulkhead.maxWaitTime() >= 0,
+					() -> String.format("Maximum wait time of %s must not be negative", source));
+
+			this.repositoryInterface = repositoryInterface;
+			this.method = method;
+			this.maxConcurrentCalls = bulkhead.maxConcurrentCalls();
+			this.maxWaitingCalls = bulkhead.maxWaitingCalls();
+			this.maxWaitNanos = bulkhead.timeUnit().toNanos(bulkhead.maxWaitTime());
+		}
+
+		/**
+		 * Acquires a {@link Permit} blocking the calling thread while waiting.
+		 *
+		 * @return the acquired permit.
+		 * @throws BulkheadFullException if no permit could be acquired or the calling thread was interrupted while waiting.
+		 */
+		Permit acquire() {
+
+			long start = System.nanoTime();
+			Acquisition acquisition = enqueue(start);
+			CompletableFuture<Permit> waiter = acquisition.permit();
+
+			if (waiter.isDone()) {
+				return join(waiter);
+			}
+
+			try {
+
+				Permit permit = maxWaitNanos > 0 ? waiter.get(maxWaitNanos, TimeUnit.NANOSECONDS) : waiter.get();
+				recordWait(start, permit, acquisition.waitingCalls());
+
+				return permit;
+			} catch (TimeoutException o_O) {
+
+				abandon(waiter);
+				throw reject(start);
+			} catch (InterruptedException o_O) {
+
+				abandon(waiter);
+				Thread.currentThread().interrupt();
+
+				BulkheadFullException exception = reject(start);
+				exception.initCause(o_O);
+
+				throw exception;
+			} catch (ExecutionException o_O) {
+				throw new IllegalStateException(o_O.getCause());
+			}
+		}
+
+		/**
+		 * Acquires a {@link Permit} without blocking upon subscription.
+		 *
+		 * @return
+		 */
+		Mono<Permit> acquireReactive() {
+
+			return Mono.defer(() -> {
+
+				long start = System.nanoTime();
+				Acquisition acquisition = enqueue(start);
+				CompletableFuture<Permit> waiter = acquisition.permit();
+
+				if (waiter.isDone()) {
+					return Mono.fromFuture(waiter);
+				}
+
+				Mono<Permit> permit = Mono.fromFuture(waiter, true) //
+						.doOnNext(it -> recordWait(start, it, acquisition.waitingCalls())) //
+						.doOnCancel(() -> abandon(waiter));
+
+				return maxWaitNanos > 0 //
+						? permit.timeout(Duration.ofNanos(maxWaitNanos)).onErrorMap(TimeoutException.class, it -> reject(start))
+						: permit;
+			});
+		}
+
+		private Acquisition enqueue(long start) {
+
+			synchronized (this) {
+
+				if (activeCalls < maxConcurrentCalls) {
+
+					activeCalls++;
+					return new Acquisition(CompletableFuture.completedFuture(new Permit(this)), 0);
+				}
+
+				if (waiters.size() < maxWaitingCalls) {
+
+					CompletableFuture<Permit> waiter = new CompletableFuture<>();
+					waiters.add(waiter);
+
+					return new Acquisition(waiter, waiters.size());
+				}
+			}
+
+			return new Acquisition(CompletableFuture.failedFuture(reject(start)), 0);
+		}
+
+		/**
+		 * Hands the permit of a completed invocation to the next waiting invocation or returns it.
+		 */
+		void release() {
+
+			while (true) {
+
+				CompletableFuture<Permit> waiter;
+
+				synchronized (this) {
+
+					waiter = waiters.poll();
+
+					if (waiter == null) {
+						activeCalls--;
+						return;
+					}
+				}
+
+				// complete outside the lock as completion may run the waiting invocation
+				if (waiter.complete(new Permit(this))) {
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Removes the given waiter from the queue, releasing its permit if it was granted concurrently.
+		 *
+		 * @param waiter must not be {@literal null}.
+		 */
+		private void abandon(CompletableFuture<Permit> waiter) {
+
+			if (waiter.cancel(false)) {
+
+				synchronized (this) {
+					waiters.remove(waiter);
+				}
+
+				return;
+			}
+
+			if (!waiter.isCompletedExceptionally()) {
+				waiter.join().release();
+			}
+		}
+
+		private BulkheadFullException reject(long start) {
+
+			rejectedCalls.increment();
+
+			String source = method != null ? method.toString() : repositoryInterface.getName();
+
+			return new BulkheadFullException(String.format("Concurrency limit of %s exhausted", source), getWaitingCalls(),
+					System.nanoTime() - start);
+		}
+
+		private void recordWait(long start, Permit permit, int waitingCalls) {
+
+			long waitTime = Math.max(1, System.nanoTime() - start);
+
+			waitedCalls.increment();
+			waitTimeNanos.add(waitTime);
+			permit.waited(waitTime, waitingCalls);
+		}
+
+		private synchronized int getWaitingCalls() {
+			return waiters.size();
+		}
+
+		synchronized BulkheadStatistics getStatistics() {
+			return new BulkheadStatistics(repositoryInterface, method, activeCalls, waiters.size(), rejectedCalls.sum(),
+					waitedCalls.sum(), waitTimeNanos.sum());
+		}
+
+		private static Permit join(CompletableFuture<Permit> waiter) {
+
+			try {
+				return waiter.join();
+			} catch (CompletionException o_O) {
+
+				if (o_O.getCause() instanceof BulkheadFullException exception) {
+					throw exception;
+				}
+
+				throw o_O;
+			}
+		}
+	}
+
+	/**
+	 * A pending {@link Permit} along with the number of invocations waiting when it was requested.
+	 */
+	private record Acquisition(CompletableFuture<Permit> permit, int waitingCalls) {}
+
+	/**
+	 * Permit to run an invocation. Releasing a permit multiple times has no effect.
+	 */
+	static class Permit {
+
+		private final ConcurrencyLimiter limiter;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private long waitTimeNanos;
+		private int waitingCalls;
+
+		Permit(ConcurrencyLimiter limiter) {
+			this.limiter = limiter;
+		}
+
+		/**
+		 * Records that the permit was granted after waiting. Called before handing the permit to the invocation.
+		 */
+		void waited(long waitTimeNanos, int waitingCalls) {
+
+			this.waitTimeNanos = waitTimeNanos;
+			this.waitingCalls = waitingCalls;
+		}
+
+		void release() {
+
+			if (released.compareAndSet(false, true)) {
+				limiter.release();
+			}
+		}
+
+		Mono<Void> releaseAsync() {
+			return Mono.fromRunnable(this::release);
+		}
+	}
+
+	/**
+	 * Statistics of a single bulkhead.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @param method the method if the bulkhead is configured for a single method, {@literal null} if it applies to the
+	 *          entire repository.
+	 * @param activeCalls number of currently running invocations.
+	 * @param waitingCalls number of currently waiting invocations.
+	 * @param rejectedCalls total number of rejected invocations.
+	 * @param waitedCalls total number of invocations that acquired a permit after waiting.
+	 * @param waitTimeNanos total time spent waiting by invocations that acquired a permit after waiting.
+	 */
+	public record BulkheadStatistics(Class<?> repositoryInterface, @Nullable Method method, int activeCalls,
+			int waitingCalls, long rejectedCalls, long waitedCalls, long waitTimeNanos) {
+
+		/**
+		 * Returns the total time spent waiting by invocations that acquired a permit after waiting.
+		 *
+		 * @param timeUnit must not be {@literal null}.
+		 * @return
+		 */
+		public long getWaitTime(TimeUnit timeUnit) {
+			return timeUnit.convert(waitTimeNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+}
@@ -116,7 +116,7 @@ public class EventPublishingRepositoryProxyPostProcessor implements RepositoryPr
 				&& (isSaveMethod(method.getName()) || isDeleteMethod(method.getName()));
 	}
 
-	private static boolean isSaveMethod(String methodName) {
+	static boolean isSaveMethod(String methodName) {
 		return methodName.startsWith("save");
 	}
 
@@ -0,0 +1,511 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.data.util.ReactiveWrappers.ReactiveLibrary;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.reactive.TransactionContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} batching {@code findById(…)} invocations on {@link CrudRepository} and
+ * {@link ReactiveCrudRepository} into a single {@code findAllById(…)} invocation. A batch collects identifiers until
+ * either the batching window elapses or the maximum batch size is reached. Loaded entities are distributed to the
+ * individual callers by their identifier obtained through {@link EntityInformation#getRequiredId(Object)}.
+ * <p>
+ * Batches are loaded by the invocation that opened the batch, that is, on the calling thread for imperative
+ * invocations and within the subscription for reactive ones. Imperative invocations load their batch immediately if no
+ * other invocation is in progress. Invocations participating in transaction synchronization on the calling thread or
+ * in a reactive transaction are not batched as loading the batch would happen outside their transaction.
+ * <p>
+ * The batching advice is added ahead of the advice registered by other post processors, in particular the transaction
+ * advice of store modules with transactional repository base classes, so that transactions are started per batch
+ * rather than per {@code findById(…)} invocation. Only the {@code findById(…)} base method is batched, repositories
+ * redeclaring it are left untouched as the redeclared method might carry additional semantics, such as a query or
+ * fetch configuration, that {@code findAllById(…)} would bypass. The post processor is typically registered through a
+ * {@link RepositoryFactoryCustomizer}:
+ *
+ * <pre class="code">
+ * factory -> factory.addRepositoryProxyPostProcessor(
+ * 		new FindByIdBatchingRepositoryProxyPostProcessor(factory::getEntityInformation, Duration.ofMillis(2), 100));
+ * </pre>
+ *
+ * @since 3.1
+ */
+public class FindByIdBatchingRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	private static final boolean TRANSACTIONS_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			FindByIdBatchingRepositoryProxyPostProcessor.class.getClassLoader());
+
+	private final Function<Class<?>, ? extends EntityInformation<?, ?>> entityInformation;
+	private final Duration window;
+	private final int maxBatchSize;
+
+	/**
+	 * Creates a new {@link FindByIdBatchingRepositoryProxyPostProcessor}.
+	 *
+	 * @param entityInformation function to obtain the {@link EntityInformation} for a domain type, must not be
+	 *          {@literal null}.
+	 * @param window the time to collect identifiers for a batch, must not be {@literal null} or negative.
+	 * @param maxBatchSize the maximum number of identifiers per batch, must be greater than zero.
+	 */
+	public FindByIdBatchingRepositoryProxyPostProcessor(
+			Function<Class<?>, ? extends EntityInformation<?, ?>> entityInformation, Duration window, int maxBatchSize) {
+
+		Assert.notNull(entityInformation, "EntityInformation function must not be null");
+		Assert.notNull(window, "Batching window must not be null");
+		Assert.isTrue(!window.isNegative(), "Batching window must not be negative");
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero");
+
+		this.entityInformation = entityInformation;
+		this.window = window;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+
+		if (CrudRepository.class.isAssignableFrom(repositoryInterface)) {
+
+			Method findById = getRequiredFindById(CrudRepository.class);
+
+			if (isBatchable(findById, repositoryInformation)) {
+				addOuterAdvice(factory, new BatchingMethodInterceptor(findById, getEntityInformation(repositoryInformation),
+						window, maxBatchSize));
+			}
+
+		} else if (ReactiveWrappers.isAvailable(ReactiveLibrary.PROJECT_REACTOR)
+				&& ReactiveCrudRepository.class.isAssignableFrom(repositoryInterface)) {
+
+			Method findById = getRequiredFindById(ReactiveCrudRepository.class);
+
+			if (isBatchable(findById, repositoryInformation)) {
+				addOuterAdvice(factory, new ReactiveBatchingMethodInterceptor(findById,
+						getEntityInformation(repositoryInformation), window, maxBatchSize));
+			}
+		}
+	}
+
+	/**
+	 * Adds the given {@link Advice} ahead of the advice registered by other {@link RepositoryProxyPostProcessor}s, e.g.
+	 * transaction advice, but after the {@link ExposeInvocationInterceptor}.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param advice must not be {@literal null}.
+	 */
+	static void addOuterAdvice(ProxyFactory factory, Advice advice) {
+
+		Advisor[] advisors = factory.getAdvisors();
+		int position = 0;
+
+		for (int i = 0; i < advisors.length; i++) {
+			if (advisors[i] == ExposeInvocationInterceptor.ADVISOR) {
+				position = i + 1;
+			}
+		}
+
+		factory.addAdvice(position, advice);
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntityInformation<Object, Object> getEntityInformation(RepositoryInformation repositoryInformation) {
+		return (EntityInformation<Object, Object>) entityInformation.apply(repositoryInformation.getDomainType());
+	}
+
+	private static Method getRequiredFindById(Class<?> repositoryType) {
+
+		Method method = ReflectionUtils.findMethod(repositoryType, "findById", Object.class);
+
+		Assert.state(method != null, () -> String.format("No findById(…) method found on %s", repositoryType.getName()));
+
+		return method;
+	}
+
+	/**
+	 * Returns whether invocations of the given {@code findById(…)} base method can be batched, i.e. whether the repository
+	 * interface does not redeclare {@code findById(…)} and the invocation is backed by the repository base class.
+	 */
+	private static boolean isBatchable(Method findById, RepositoryInformation repositoryInformation) {
+
+		for (Method method : repositoryInformation.getRepositoryInterface().getMethods()) {
+			if (method.getName().equals(findById.getName())
+					&& !method.getDeclaringClass().equals(findById.getDeclaringClass())) {
+				return false;
+			}
+		}
+
+		return repositoryInformation.isBaseClassMethod(findById);
+	}
+
+	private static boolean isSynchronizationActive() {
+		return TRANSACTIONS_PRESENT && TransactionSynchronizationManager.isSynchronizationActive();
+	}
+
+	/**
+	 * Base class for interceptors collecting identifiers into {@link Batch}es.
+	 */
+	abstract static class BatchCollectingMethodInterceptor implements MethodInterceptor {
+
+		private final Method method;
+		private final EntityInformation<Object, Object> entityInformation;
+		private final long windowNanos;
+		private final int maxBatchSize;
+
+		private final Object monitor = new Object();
+		private @Nullable Batch current;
+
+		BatchCollectingMethodInterceptor(Method method, EntityInformation<Object, Object> entityInformation,
+				Duration window, int maxBatchSize) {
+
+			this.method = method;
+			this.entityInformation = entityInformation;
+			this.windowNanos = window.toNanos();
+			this.maxBatchSize = maxBatchSize;
+		}
+
+		/**
+		 * Returns the identifier to batch the given {@link MethodInvocation} for.
+		 *
+		 * @param invocation must not be {@literal null}.
+		 * @return the identifier or {@literal null} if the invocation is not a {@code findById(…)} invocation to batch.
+		 */
+		@Nullable
+		Object getBatchedId(MethodInvocation invocation) {
+			return method.equals(invocation.getMethod()) ? invocation.getArguments()[0] : null;
+		}
+
+		/**
+		 * Adds the given identifier to the currently open batch or opens a new one.
+		 *
+		 * @param id must not be {@literal null}.
+		 * @return the membership in the batch the identifier was added to.
+		 */
+		BatchMembership enqueue(Object id) {
+
+			Batch batch;
+			boolean opened;
+			boolean full;
+
+			synchronized (monitor) {
+
+				batch = current;
+				opened = batch == null;
+
+				if (opened) {
+					batch = new Batch(System.nanoTime() + windowNanos);
+					current = batch;
+				}
+
+				batch.ids.add(id);
+				full = batch.ids.size() >= maxBatchSize;
+
+				if (full) {
+					detach(batch);
+				}
+			}
+
+			// completing outside the lock as it resumes the reactive invocation that opened the batch
+			boolean filled = full && batch.closing.complete(null);
+
+			return new BatchMembership(batch, opened, filled);
+		}
+
+		/**
+		 * Waits until the batching window elapses or the batch got closed because it reached the maximum batch size.
+		 *
+		 * @param batch must not be {@literal null}.
+		 */
+		void awaitClosed(Batch batch) {
+
+			boolean interrupted = false;
+
+			synchronized (monitor) {
+
+				while (current == batch) {
+
+					long remaining = batch.deadline - System.nanoTime();
+
+					if (remaining <= 0) {
+						break;
+					}
+
+					try {
+						TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+					} catch (InterruptedException o_O) {
+						interrupted = true;
+						break;
+					}
+				}
+			}
+
+			close(batch);
+
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * Closes the given batch so that no further identifiers are added to it.
+		 *
+		 * @param batch must not be {@literal null}.
+		 * @return {@literal true} if the batch was closed by this call.
+		 */
+		boolean close(Batch batch) {
+
+			synchronized (monitor) {
+				detach(batch);
+			}
+
+			return batch.closing.complete(null);
+		}
+
+		private void detach(Batch batch) {
+
+			if (current == batch) {
+				current = null;
+				monitor.notifyAll();
+			}
+		}
+
+		Map<Object, Object> toMap(Iterable<?> entities) {
+
+			Map<Object, Object> result = new HashMap<>();
+
+			for (Object entity : entities) {
+				result.put(entityInformation.getRequiredId(entity), entity);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Interceptor batching {@link CrudRepository#findById(Object)} invocations.
+	 */
+	static class BatchingMethodInterceptor extends BatchCollectingMethodInterceptor {
+
+		private final AtomicInteger inProgress = new AtomicInteger();
+
+		BatchingMethodInterceptor(Method method, EntityInformation<Object, Object> entityInformation, Duration window,
+				int maxBatchSize) {
+			super(method, entityInformation, window, maxBatchSize);
+		}
+
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			Object id = getBatchedId(invocation);
+
+			if (id == null || !(invocation instanceof ProxyMethodInvocation proxyInvocation) || isSynchronizationActive()) {
+				return invocation.proceed();
+			}
+
+			inProgress.incrementAndGet();
+
+			try {
+
+				BatchMembership membership = enqueue(id);
+				Batch batch = membership.batch();
+
+				if (membership.opened()) {
+
+					// waiting for further identifiers is pointless if no other invocation is in progress
+					if (inProgress.get() == 1) {
+						close(batch);
+					} else {
+						awaitClosed(batch);
+					}
+
+					try {
+
+						CrudRepository<Object, Object> repository = (CrudRepository<Object, Object>) proxyInvocation.getProxy();
+						batch.result.complete(toMap(repository.findAllById(batch.getIds())));
+					} catch (Throwable o_O) {
+						batch.result.completeExceptionally(o_O);
+					}
+				}
+
+				try {
+					return Optional.ofNullable(batch.result.join().get(id));
+				} catch (CompletionException o_O) {
+					throw o_O.getCause();
+				}
+			} finally {
+				inProgress.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Interceptor batching {@link ReactiveCrudRepository#findById(Object)} invocations.
+	 */
+	static class ReactiveBatchingMethodInterceptor extends BatchCollectingMethodInterceptor {
+
+		private final Duration window;
+
+		ReactiveBatchingMethodInterceptor(Method method, EntityInformation<Object, Object> entityInformation,
+				Duration window, int maxBatchSize) {
+
+			super(method, entityInformation, window, maxBatchSize);
+			this.window = window;
+		}
+
+		@Nullable
+		@Override
+		@SuppressWarnings("unchecked")
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			Object id = getBatchedId(invocation);
+
+			if (id == null || !(invocation instanceof ProxyMethodInvocation proxyInvocation)) {
+				return invocation.proceed();
+			}
+
+			ReactiveCrudRepository<Object, Object> repository = (ReactiveCrudRepository<Object, Object>) proxyInvocation
+					.getProxy();
+			MethodInvocation unbatched = proxyInvocation.invocableClone();
+
+			return Mono.deferContextual(context -> {
+
+				if (isTransactional(context)) {
+					return proceed(unbatched);
+				}
+
+				BatchMembership membership = enqueue(id);
+				Batch batch = membership.batch();
+
+				if (!membership.opened()) {
+					return await(batch, id, unbatched);
+				}
+
+				// the batch is loaded within the subscription of the invocation that opened it
+				return Mono.firstWithSignal(Mono.delay(window).then(), Mono.fromFuture(batch.closing.copy())) //
+						.then(Mono.defer(() -> {
+
+							close(batch);
+
+							return repository.findAllById(batch.getIds()).collectList();
+						})) //
+						.map(this::toMap) //
+						.doOnNext(batch.result::complete) //
+						.doOnError(batch.result::completeExceptionally) //
+						.doOnCancel(() -> {
+							close(batch);
+							batch.result.cancel(false);
+						}) //
+						.flatMap(it -> Mono.justOrEmpty(it.get(id)));
+			});
+		}
+
+		/**
+		 * Waits for the given batch to be loaded. Falls back to an individual invocation if the subscriber that opened the
+		 * batch cancelled before loading it.
+		 */
+		private Mono<Object> await(Batch batch, Object id, MethodInvocation unbatched) {
+
+			return Mono.fromFuture(batch.result.copy()) //
+					.flatMap(it -> Mono.justOrEmpty(it.get(id))) //
+					.onErrorResume(CancellationException.class, it -> proceed(unbatched));
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Mono<Object> proceed(MethodInvocation invocation) {
+
+			try {
+				return (Mono<Object>) invocation.proceed();
+			} catch (Throwable o_O) {
+				return Mono.error(o_O);
+			}
+		}
+
+		/**
+		 * Returns whether the given {@link ContextView} carries a reactive transaction. Loading a batch would happen
+		 * outside of it.
+		 */
+		private static boolean isTransactional(ContextView context) {
+			return TRANSACTIONS_PRESENT && context.hasKey(TransactionContext.class);
+		}
+	}
+
+	/**
+	 * Identifiers collected for a single {@code findAllById(…)} invocation along with its result.
+	 */
+	static class Batch {
+
+		final List<Object> ids = new ArrayList<>();
+		final CompletableFuture<Void> closing = new CompletableFuture<>();
+		final CompletableFuture<Map<Object, Object>> result = new CompletableFuture<>();
+		final long deadline;
+
+		Batch(long deadline) {
+			this.deadline = deadline;
+		}
+
+		List<Object> getIds() {
+			return new ArrayList<>(new LinkedHashSet<>(ids));
+		}
+	}
+
+	/**
+	 * Membership of a single invocation in a {@link Batch}.
+	 *
+	 * @param batch the batch the invocation was added to.
+	 * @param opened whether the invocation opened the batch.
+	 * @param filled whether the invocation filled and thereby closed the batch.
+	 */
+	record BatchMembership(Batch batch, boolean opened, boolean filled) {}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.util.Arrays;
+
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Arguments of a repository method invocation to be used as key considering array arguments by their contents.
+ *
+ * @since 3.1
+ */
+record InvocationArguments(Object[] arguments) {
+
+	/**
+	 * Captures the arguments of the given {@link MethodInvocation}.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @return
+	 */
+	static InvocationArguments of(MethodInvocation invocation) {
+		return new InvocationArguments(invocation.getArguments().clone());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof InvocationArguments that && Arrays.deepEquals(arguments, that.arguments);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.deepHashCode(arguments);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.deepToString(arguments);
+	}
+}
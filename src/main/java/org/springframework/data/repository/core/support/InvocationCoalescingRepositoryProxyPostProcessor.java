@@ -0,0 +1,319 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import reactor.core.publisher.Mono;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.CoalesceInvocations;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.data.util.ReactiveWrappers.ReactiveLibrary;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} coalescing concurrent invocations of repository methods with equal arguments
+ * into a single execution as configured through {@link CoalesceInvocations}. Callers arriving while an invocation is in
+ * progress wait for and receive its outcome instead of invoking the repository method themselves.
+ * <p>
+ * Supports methods returning values, {@link CompletableFuture} and {@link Mono}. Coalesced reactive invocations
+ * subscribe to the underlying {@link Mono} once using the Reactor context of the initiating subscriber, cancellation of
+ * a single subscriber does not cancel the shared invocation. Re-entrant invocations on the thread running the
+ * invocation in progress are not coalesced. Methods returning other asynchronous, streaming or reactive types cannot be
+ * coalesced and are rejected if annotated explicitly or excluded if the repository interface is annotated.
+ *
+ * @since 3.1
+ * @see CoalesceInvocations
+ */
+public class InvocationCoalescingRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	private final Set<Class<? extends Annotation>> modifyingAnnotationTypes;
+
+	/**
+	 * Creates a new {@link InvocationCoalescingRepositoryProxyPostProcessor} excluding methods annotated with the
+	 * {@code @Modifying} annotations of the JPA, JDBC and R2DBC modules from repository-wide coalescing.
+	 */
+	public InvocationCoalescingRepositoryProxyPostProcessor() {
+		this(QueryResultCachingRepositoryProxyPostProcessor.STORE_MODIFYING_ANNOTATION_TYPES);
+	}
+
+	/**
+	 * Creates a new {@link InvocationCoalescingRepositoryProxyPostProcessor} excluding methods annotated with one of the
+	 * given annotation types from repository-wide coalescing in addition to save and delete methods.
+	 *
+	 * @param modifyingAnnotationTypes must not be {@literal null}.
+	 */
+	public InvocationCoalescingRepositoryProxyPostProcessor(
+			Collection<Class<? extends Annotation>> modifyingAnnotationTypes) {
+
+		Assert.notNull(modifyingAnnotationTypes, "Modifying annotation types must not be null");
+
+		this.modifyingAnnotationTypes = new LinkedHashSet<>(modifyingAnnotationTypes);
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+		boolean coalesceAll = AnnotatedElementUtils.hasAnnotation(repositoryInterface, CoalesceInvocations.class);
+		Map<Method, CoalescedMethod> methods = new HashMap<>();
+
+		ReflectionUtils.doWithMethods(repositoryInterface, method -> {
+
+			if (AnnotatedElementUtils.hasAnnotation(method, CoalesceInvocations.class)) {
+				methods.put(method, CoalescedMethod.of(method));
+			} else if (coalesceAll && isReadingMethod(method, repositoryInformation) && CoalescedMethod.supports(method)) {
+				methods.put(method, CoalescedMethod.of(method));
+			}
+		}, ReflectionUtils.USER_DECLARED_METHODS);
+
+		if (methods.isEmpty()) {
+			return;
+		}
+
+		factory.addAdvice(new InvocationCoalescingMethodInterceptor(methods));
+	}
+
+	/**
+	 * Returns whether the given {@link Method} is a query or base class method not modifying the repository state.
+	 * Custom implementation methods are excluded as their effects are unknown.
+	 */
+	private boolean isReadingMethod(Method method, RepositoryInformation repositoryInformation) {
+
+		return (repositoryInformation.isQueryMethod(method) || repositoryInformation.isBaseClassMethod(method))
+				&& !QueryResultCachingRepositoryProxyPostProcessor.isModifyingMethod(method, modifyingAnnotationTypes);
+	}
+
+	/**
+	 * {@link MethodInterceptor} coalescing invocations of {@link CoalescedMethod}s.
+	 */
+	static class InvocationCoalescingMethodInterceptor implements MethodInterceptor {
+
+		private final Map<Method, CoalescedMethod> methods;
+
+		InvocationCoalescingMethodInterceptor(Map<Method, CoalescedMethod> methods) {
+			this.methods = methods;
+		}
+
+		@Nullable
+		@Override
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			CoalescedMethod method = methods.get(invocation.getMethod());
+
+			return method != null ? method.invoke(invocation) : invocation.proceed();
+		}
+
+		boolean isCoalesced(Method method) {
+			return methods.containsKey(method);
+		}
+	}
+
+	/**
+	 * A method subject to coalescing along with its invocations in progress.
+	 */
+	static class CoalescedMethod {
+
+		private final Map<InvocationArguments, InFlightInvocation> inFlight = new ConcurrentHashMap<>();
+		private final Map<InvocationArguments, Mono<Object>> inFlightMonos = new ConcurrentHashMap<>();
+		private final ResultType resultType;
+
+		private CoalescedMethod(ResultType resultType) {
+			this.resultType = resultType;
+		}
+
+		static CoalescedMethod of(Method method) {
+
+			if (!supports(method)) {
+				throw new IllegalStateException(String.format("Cannot coalesce invocations of method %s returning %s", method,
+						method.getReturnType().getName()));
+			}
+
+			Class<?> returnType = method.getReturnType();
+
+			return new CoalescedMethod(CompletableFuture.class.equals(returnType) ? ResultType.FUTURE
+					: isMono(returnType) ? ResultType.MONO : ResultType.VALUE);
+		}
+
+		static boolean supports(Method method) {
+
+			Class<?> returnType = method.getReturnType();
+
+			if (CompletableFuture.class.equals(returnType) || isMono(returnType)) {
+				return true;
+			}
+
+			return !void.class.equals(returnType) && !BaseStream.class.isAssignableFrom(returnType)
+					&& !Iterator.class.isAssignableFrom(returnType) && !Future.class.isAssignableFrom(returnType)
+					&& !ReactiveWrappers.supports(returnType);
+		}
+
+		@Nullable
+		Object invoke(MethodInvocation invocation) throws Throwable {
+
+			InvocationArguments key = InvocationArguments.of(invocation);
+
+			return switch (resultType) {
+				case VALUE -> invokeBlocking(invocation, key);
+				case FUTURE -> invokeAsync(invocation, key);
+				case MONO -> invokeReactive(invocation, key);
+			};
+		}
+
+		@Nullable
+		private Object invokeBlocking(MethodInvocation invocation, InvocationArguments key) throws Throwable {
+
+			InFlightInvocation candidate = new InFlightInvocation();
+			InFlightInvocation existing = inFlight.putIfAbsent(key, candidate);
+
+			if (existing != null) {
+
+				// a re-entrant invocation would wait for itself
+				if (existing.isOwnedByCurrentThread()) {
+					return invocation.proceed();
+				}
+
+				try {
+					return existing.result().join();
+				} catch (CompletionException o_O) {
+					throw o_O.getCause();
+				}
+			}
+
+			CompletableFuture<Object> result = candidate.result();
+
+			try {
+
+				Object value = invocation.proceed();
+				result.complete(value);
+
+				return value;
+			} catch (Throwable o_O) {
+
+				result.completeExceptionally(o_O);
+				throw o_O;
+			} finally {
+				inFlight.remove(key, candidate);
+			}
+		}
+
+		private Object invokeAsync(MethodInvocation invocation, InvocationArguments key) throws Throwable {
+
+			InFlightInvocation candidate = new InFlightInvocation();
+			InFlightInvocation existing = inFlight.putIfAbsent(key, candidate);
+
+			if (existing != null) {
+				return existing.result().copy();
+			}
+
+			CompletableFuture<Object> result = candidate.result();
+
+			try {
+				subscribe(candidate, key, (CompletableFuture<?>) invocation.proceed());
+			} catch (Throwable o_O) {
+
+				inFlight.remove(key, candidate);
+				result.completeExceptionally(o_O);
+				throw o_O;
+			}
+
+			return result.copy();
+		}
+
+		private Object invokeReactive(MethodInvocation invocation, InvocationArguments key) throws Throwable {
+
+			Mono<?> source = (Mono<?>) invocation.proceed();
+
+			// the shared invocation runs with the context of the subscriber that initiated it
+			return Mono.deferContextual(context -> inFlightMonos.computeIfAbsent(key,
+					it -> share(key, source.contextWrite(context))));
+		}
+
+		/**
+		 * Caches the outcome of the given {@link Mono} for subscribers arriving while it is in progress so that the
+		 * source is subscribed to only once. Cancelling a subscriber does not cancel the shared invocation.
+		 */
+		private Mono<Object> share(InvocationArguments key, Mono<?> source) {
+
+			AtomicReference<Mono<Object>> shared = new AtomicReference<>();
+
+			shared.set(source.cast(Object.class) //
+					.doFinally(signal -> inFlightMonos.remove(key, shared.get())) //
+					.cache());
+
+			return shared.get();
+		}
+
+		private void subscribe(InFlightInvocation invocation, InvocationArguments key, CompletableFuture<?> source) {
+
+			CompletableFuture<Object> result = invocation.result();
+
+			source.whenComplete((value, error) -> {
+
+				inFlight.remove(key, invocation);
+
+				if (error != null) {
+					result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+				} else {
+					result.complete(value);
+				}
+			});
+		}
+
+		private static boolean isMono(Class<?> type) {
+			return ReactiveWrappers.isAvailable(ReactiveLibrary.PROJECT_REACTOR) && Mono.class.equals(type);
+		}
+	}
+
+	/**
+	 * An invocation in progress along with the thread that initiated it.
+	 */
+	record InFlightInvocation(CompletableFuture<Object> result, Thread owner) {
+
+		InFlightInvocation() {
+			this(new CompletableFuture<>(), Thread.currentThread());
+		}
+
+		boolean isOwnedByCurrentThread() {
+			return owner == Thread.currentThread();
+		}
+	}
+
+	enum ResultType {
+		VALUE, FUTURE, MONO
+	}
+}
@@ -16,9 +16,11 @@
 package org.springframework.data.repository.core.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -77,6 +79,35 @@ class QueryExecutionResultHandler {
 		return postProcessInvocationResult(result, 0, descriptor);
 	}
 
+	/**
+	 * Post-processes the given result of a query invocation to match the return type described by the given
+	 * {@link ReturnTypeDescriptor}.
+	 *
+	 * @param result can be {@literal null}.
+	 * @param descriptor must not be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	Object postProcessInvocationResult(@Nullable Object result, ReturnTypeDescriptor descriptor) {
+
+		if (!processingRequired(result, descriptor.getReturnType())) {
+			return result;
+		}
+
+		return postProcessInvocationResult(result, 0, descriptor);
+	}
+
+	/**
+	 * Creates a {@link ReturnTypeDescriptor} for the given {@link Method} precomputing the conversion decisions that only
+	 * depend on the declared return type.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	ReturnTypeDescriptor createReturnTypeDescriptor(Method method) {
+		return ReturnTypeDescriptor.of(method, conversionService);
+	}
+
 	private ReturnTypeDescriptor getOrCreateReturnTypeDescriptor(Method method) {
 
 		Map<Method, ReturnTypeDescriptor> descriptorCache = this.descriptorCache;
@@ -84,7 +115,7 @@ class QueryExecutionResultHandler {
 
 		if (descriptor == null) {
 
-			descriptor = ReturnTypeDescriptor.of(method);
+			descriptor = createReturnTypeDescriptor(method);
 
 			Map<Method, ReturnTypeDescriptor> updatedDescriptorCache;
 
@@ -116,23 +147,22 @@ class QueryExecutionResultHandler {
 	@Nullable
 	Object postProcessInvocationResult(@Nullable Object result, int nestingLevel, ReturnTypeDescriptor descriptor) {
 
-		TypeDescriptor returnTypeDescriptor = descriptor.getReturnTypeDescriptor(nestingLevel);
+		ResultConversionPlan plan = descriptor.getConversionPlan(nestingLevel);
 
-		if (returnTypeDescriptor == null) {
+		if (plan == null) {
 			return result;
 		}
 
-		Class<?> expectedReturnType = returnTypeDescriptor.getType();
+		TypeDescriptor returnTypeDescriptor = plan.typeDescriptor();
 
 		result = unwrapOptional(result);
 
-		if (QueryExecutionConverters.supports(expectedReturnType)
-				|| ReactiveWrapperConverters.supports(expectedReturnType)) {
+		if (plan.wrapper()) {
 
 			// For a wrapper type, try nested resolution first
 			result = postProcessInvocationResult(result, nestingLevel + 1, descriptor);
 
-			if (conversionRequired(WRAPPER_TYPE, returnTypeDescriptor)) {
+			if (plan.wrapperConversionRequired()) {
 				return conversionService.convert(new NullableWrapper(result), returnTypeDescriptor);
 			}
 
@@ -148,14 +178,15 @@ class QueryExecutionResultHandler {
 
 		if (result != null) {
 
-			if (ReactiveWrapperConverters.supports(expectedReturnType)) {
-				return ReactiveWrapperConverters.toWrapper(result, expectedReturnType);
+			if (plan.reactiveWrapper()) {
+				return ReactiveWrapperConverters.toWrapper(result, plan.type());
 			}
 
 			if (result instanceof Collection<?>) {
 
-				TypeDescriptor elementDescriptor = descriptor.getReturnTypeDescriptor(nestingLevel + 1);
-				boolean requiresConversion = requiresConversion((Collection<?>) result, expectedReturnType, elementDescriptor);
+				ResultConversionPlan elementPlan = descriptor.getConversionPlan(nestingLevel + 1);
+				boolean requiresConversion = requiresConversion((Collection<?>) result, plan,
+						elementPlan == null ? null : elementPlan.type());
 
 				if (!requiresConversion) {
 					return result;
@@ -168,28 +199,26 @@ class QueryExecutionResultHandler {
 					: result;
 		}
 
-		return Map.class.equals(expectedReturnType) //
-				? CollectionFactory.createMap(expectedReturnType, 0) //
+		return plan.map() //
+				? CollectionFactory.createMap(plan.type(), 0) //
 				: null;
 
 	}
 
-	private boolean requiresConversion(Collection<?> collection, Class<?> expectedReturnType,
-			@Nullable TypeDescriptor elementDescriptor) {
+	private static boolean requiresConversion(Collection<?> collection, ResultConversionPlan plan,
+			@Nullable Class<?> elementType) {
 
-		if (Streamable.class.isAssignableFrom(expectedReturnType) || !expectedReturnType.isInstance(collection)) {
+		if (plan.streamable() || !plan.type().isInstance(collection)) {
 			return true;
 		}
 
-		if (elementDescriptor == null || !Iterable.class.isAssignableFrom(expectedReturnType)) {
+		if (elementType == null || !plan.iterable()) {
 			return false;
 		}
 
-		Class<?> type = elementDescriptor.getType();
-
 		for (Object o : collection) {
 
-			if (!type.isInstance(o)) {
+			if (!elementType.isInstance(o)) {
 				return true;
 			}
 		}
@@ -245,52 +274,111 @@ class QueryExecutionResultHandler {
 	}
 
 	/**
-	 * Value object capturing {@link MethodParameter} and {@link TypeDescriptor}s for top and nested levels.
+	 * Value object capturing {@link MethodParameter} and {@link ResultConversionPlan}s for top and nested levels.
 	 */
 	static class ReturnTypeDescriptor {
 
+		// precomputing nesting levels 0 to 2 (Optional<List<T>>), deeper levels use the slow path.
+		private static final int PRECOMPUTED_NESTING_LEVELS = 3;
+
 		private final MethodParameter methodParameter;
-		private final TypeDescriptor typeDescriptor;
-		private final @Nullable TypeDescriptor nestedTypeDescriptor;
+		private final GenericConversionService conversionService;
+		private final ResultConversionPlan[] plans;
+
+		private ReturnTypeDescriptor(Method method, GenericConversionService conversionService) {
 
-		private ReturnTypeDescriptor(Method method) {
 			this.methodParameter = new MethodParameter(method, -1);
-			this.typeDescriptor = TypeDescriptor.nested(this.methodParameter, 0);
-			this.nestedTypeDescriptor = TypeDescriptor.nested(this.methodParameter, 1);
+			this.conversionService = conversionService;
+
+			List<ResultConversionPlan> plans = new ArrayList<>(PRECOMPUTED_NESTING_LEVELS);
+
+			for (int nestingLevel = 0; nestingLevel < PRECOMPUTED_NESTING_LEVELS; nestingLevel++) {
+
+				ResultConversionPlan plan = createConversionPlan(nestingLevel);
+
+				if (plan == null) {
+					break;
+				}
+
+				plans.add(plan);
+			}
+
+			this.plans = plans.toArray(new ResultConversionPlan[0]);
 		}
 
 		/**
 		 * Create a {@link ReturnTypeDescriptor} from a {@link Method}.
 		 *
 		 * @param method
+		 * @param conversionService
 		 * @return
 		 */
-		public static ReturnTypeDescriptor of(Method method) {
-			return new ReturnTypeDescriptor(method);
+		public static ReturnTypeDescriptor of(Method method, GenericConversionService conversionService) {
+			return new ReturnTypeDescriptor(method, conversionService);
 		}
 
 		/**
-		 * Return the {@link TypeDescriptor} for a nested type declared within the method parameter described by
-		 * {@code nestingLevel} .
+		 * Return the declared return type of the method.
+		 *
+		 * @return the declared return type.
+		 */
+		Class<?> getReturnType() {
+			return methodParameter.getParameterType();
+		}
+
+		/**
+		 * Return the {@link ResultConversionPlan} for the given {@code nestingLevel}.
 		 *
 		 * @param nestingLevel the nesting level. {@code 0} is the first level, {@code 1} the next inner one.
-		 * @return the {@link TypeDescriptor} or {@literal null} if it could not be obtained.
-		 * @see TypeDescriptor#nested(MethodParameter, int)
+		 * @return the {@link ResultConversionPlan} or {@literal null} if the type at the given nesting level could not be
+		 *         obtained.
 		 */
 		@Nullable
-		TypeDescriptor getReturnTypeDescriptor(int nestingLevel) {
-
-			// optimizing for nesting level 0 and 1 (Optional<T>, List<T>)
-			// nesting level 2 (Optional<List<T>>) uses the slow path.
-
-			switch (nestingLevel) {
-				case 0:
-					return typeDescriptor;
-				case 1:
-					return nestedTypeDescriptor;
-				default:
-					return TypeDescriptor.nested(this.methodParameter, nestingLevel);
+		ResultConversionPlan getConversionPlan(int nestingLevel) {
+
+			if (nestingLevel < plans.length) {
+				return plans[nestingLevel];
 			}
+
+			return nestingLevel < PRECOMPUTED_NESTING_LEVELS ? null : createConversionPlan(nestingLevel);
+		}
+
+		@Nullable
+		private ResultConversionPlan createConversionPlan(int nestingLevel) {
+
+			TypeDescriptor typeDescriptor = TypeDescriptor.nested(this.methodParameter, nestingLevel);
+
+			return typeDescriptor == null ? null : ResultConversionPlan.of(typeDescriptor, conversionService);
+		}
+	}
+
+	/**
+	 * Conversion decisions for a single nesting level of a method return type that depend on the declared type only and
+	 * can therefore be computed once instead of on every invocation.
+	 *
+	 * @param typeDescriptor the {@link TypeDescriptor} of the nesting level.
+	 * @param type the raw type of the nesting level.
+	 * @param wrapper whether the type is a wrapper type supported by {@link QueryExecutionConverters} or
+	 *          {@link ReactiveWrapperConverters}.
+	 * @param reactiveWrapper whether the type is a reactive wrapper type.
+	 * @param wrapperConversionRequired whether a {@link NullableWrapper} requires conversion into the type.
+	 * @param streamable whether the type is a {@link Streamable}.
+	 * @param iterable whether the type is an {@link Iterable}.
+	 * @param map whether the type is {@link Map}.
+	 */
+	record ResultConversionPlan(TypeDescriptor typeDescriptor, Class<?> type, boolean wrapper, boolean reactiveWrapper,
+			boolean wrapperConversionRequired, boolean streamable, boolean iterable, boolean map) {
+
+		static ResultConversionPlan of(TypeDescriptor typeDescriptor, GenericConversionService conversionService) {
+
+			Class<?> type = typeDescriptor.getType();
+			boolean reactiveWrapper = ReactiveWrapperConverters.supports(type);
+			boolean wrapper = QueryExecutionConverters.supports(type) || reactiveWrapper;
+			boolean wrapperConversionRequired = wrapper && conversionService.canConvert(WRAPPER_TYPE, typeDescriptor)
+					&& !conversionService.canBypassConvert(WRAPPER_TYPE, typeDescriptor);
+
+			return new ResultConversionPlan(typeDescriptor, type, wrapper, reactiveWrapper, wrapperConversionRequired,
+					Streamable.class.isAssignableFrom(type), Iterable.class.isAssignableFrom(type), Map.class.equals(type));
 		}
 	}
 }
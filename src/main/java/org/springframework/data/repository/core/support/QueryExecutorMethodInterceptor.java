@@ -16,18 +16,26 @@
 package org.springframework.data.repository.core.support;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.QueryExecutionResultHandler.ReturnTypeDescriptor;
 import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.DefaultRepositoryInvocationMulticaster;
 import org.springframework.data.repository.core.support.RepositoryInvocationMulticaster.NoOpRepositoryInvocationMulticaster;
 import org.springframework.data.repository.query.QueryCreationException;
@@ -37,7 +45,6 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.util.QueryExecutionConverters;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
-import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
  * This {@link MethodInterceptor} intercepts calls to methods of the custom implementation and delegates the to it if
@@ -52,13 +59,20 @@ import org.springframework.util.ConcurrentReferenceHashMap;
  */
 class QueryExecutorMethodInterceptor implements MethodInterceptor {
 
+	/**
+	 * Tag carrying the ISO-8601 duration of a query lookup step whose lookup ran on another thread.
+	 */
+	static final String DURATION_TAG = "duration";
+
 	private final RepositoryInformation repositoryInformation;
 	private final Map<Method, RepositoryQuery> queries;
-	private final Map<Method, RepositoryMethodInvoker> invocationMetadataCache = new ConcurrentReferenceHashMap<>();
+	private final Map<Method, MethodInvocationDescriptor> invocationDescriptors;
 	private final QueryExecutionResultHandler resultHandler;
 	private final NamedQueries namedQueries;
 	private final List<QueryCreationListener<?>> queryPostProcessors;
 	private final RepositoryInvocationMulticaster invocationMulticaster;
+	private final ApplicationStartup applicationStartup;
+	private final @Nullable Executor queryLookupExecutor;
 
 	/**
 	 * Creates a new {@link QueryExecutorMethodInterceptor}. Builds a model of {@link QueryMethod}s to be invoked on
@@ -69,6 +83,28 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 			List<QueryCreationListener<?>> queryPostProcessors,
 			List<RepositoryMethodInvocationListener> methodInvocationListeners) {
 
+		this(repositoryInformation, projectionFactory, queryLookupStrategy, namedQueries, queryPostProcessors,
+				methodInvocationListeners, ApplicationStartup.DEFAULT, null);
+	}
+
+	/**
+	 * Creates a new {@link QueryExecutorMethodInterceptor}. Builds a model of {@link QueryMethod}s to be invoked on
+	 * execution of repository interface methods. Queries are resolved concurrently on the given {@link Executor} if
+	 * present while {@link QueryCreationListener}s are invoked in query method order on the calling thread.
+	 *
+	 * @param applicationStartup the {@link ApplicationStartup} to record query resolution on.
+	 * @param queryLookupExecutor the {@link Executor} to resolve queries on, can be {@literal null} to resolve queries
+	 *          on the calling thread.
+	 * @since 3.1
+	 */
+	public QueryExecutorMethodInterceptor(RepositoryInformation repositoryInformation,
+			ProjectionFactory projectionFactory, Optional<QueryLookupStrategy> queryLookupStrategy, NamedQueries namedQueries,
+			List<QueryCreationListener<?>> queryPostProcessors,
+			List<RepositoryMethodInvocationListener> methodInvocationListeners, ApplicationStartup applicationStartup,
+			@Nullable Executor queryLookupExecutor) {
+
+		this.applicationStartup = applicationStartup;
+		this.queryLookupExecutor = queryLookupExecutor;
 		this.repositoryInformation = repositoryInformation;
 		this.namedQueries = namedQueries;
 		this.queryPostProcessors = queryPostProcessors;
@@ -87,17 +123,47 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 		this.queries = queryLookupStrategy //
 				.map(it -> mapMethodsToQuery(repositoryInformation, it, projectionFactory)) //
 				.orElse(Collections.emptyMap());
+
+		this.invocationDescriptors = createInvocationDescriptors(repositoryInformation);
+	}
+
+	private Map<Method, MethodInvocationDescriptor> createInvocationDescriptors(RepositoryInformation information) {
+
+		Method[] methods = information.getRepositoryInterface().getMethods();
+		Map<Method, MethodInvocationDescriptor> descriptors = new HashMap<>(methods.length + queries.size());
+
+		for (Method method : methods) {
+			descriptors.put(method, createInvocationDescriptor(method));
+		}
+
+		queries.keySet().forEach(it -> descriptors.putIfAbsent(it, createInvocationDescriptor(it)));
+
+		return descriptors;
 	}
 
 	private Map<Method, RepositoryQuery> mapMethodsToQuery(RepositoryInformation repositoryInformation,
 			QueryLookupStrategy lookupStrategy, ProjectionFactory projectionFactory) {
 
+		List<Method> queryMethods = repositoryInformation.getQueryMethods().toList();
+
+		if (queryLookupExecutor != null && queryMethods.size() > 1) {
+			return mapMethodsToQueryConcurrently(queryMethods, repositoryInformation, lookupStrategy, projectionFactory,
+					queryLookupExecutor);
+		}
+
 		Map<Method, RepositoryQuery> result = new HashMap<>();
 
-		for (Method method : repositoryInformation.getQueryMethods()) {
+		for (Method method : queryMethods) {
+
+			StartupStep step = onQueryLookup(method);
+			Pair<Method, RepositoryQuery> pair;
+
+			try {
+				pair = lookupQuery(method, repositoryInformation, lookupStrategy, projectionFactory);
+			} finally {
+				step.end();
+			}
 
-			Pair<Method, RepositoryQuery> pair = lookupQuery(method, repositoryInformation, lookupStrategy,
-					projectionFactory);
 			invokeListeners(pair.getSecond());
 			result.put(pair.getFirst(), pair.getSecond());
 		}
@@ -105,6 +171,63 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 		return result;
 	}
 
+	private Map<Method, RepositoryQuery> mapMethodsToQueryConcurrently(List<Method> queryMethods,
+			RepositoryInformation repositoryInformation, QueryLookupStrategy lookupStrategy,
+			ProjectionFactory projectionFactory, Executor executor) {
+
+		List<CompletableFuture<TimedQueryLookup>> lookups = new ArrayList<>(queryMethods.size());
+
+		for (Method method : queryMethods) {
+			lookups.add(CompletableFuture.supplyAsync(() -> {
+
+				long start = System.nanoTime();
+				Pair<Method, RepositoryQuery> pair = lookupQuery(method, repositoryInformation, lookupStrategy,
+						projectionFactory);
+
+				return new TimedQueryLookup(pair.getSecond(), System.nanoTime() - start);
+			}, executor));
+		}
+
+		// Await all lookups to report the failure of the first query method deterministically
+
+		CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).exceptionally(it -> null).join();
+
+		Map<Method, RepositoryQuery> result = new HashMap<>();
+
+		for (int i = 0; i < queryMethods.size(); i++) {
+
+			Method method = queryMethods.get(i);
+			TimedQueryLookup lookup;
+
+			try {
+				lookup = lookups.get(i).join();
+			} catch (CompletionException o_O) {
+
+				if (o_O.getCause() instanceof RuntimeException exception) {
+					throw exception;
+				}
+
+				throw o_O;
+			}
+
+			// The lookup ran on another thread, so the step reports the time it took instead of the time it was open for
+
+			onQueryLookup(method).tag(DURATION_TAG, Duration.ofNanos(lookup.duration()).toString()).end();
+
+			invokeListeners(lookup.query());
+			result.put(method, lookup.query());
+		}
+
+		return result;
+	}
+
+	private StartupStep onQueryLookup(Method method) {
+
+		return applicationStartup.start("spring.data.repository.query") //
+				.tag("repository", repositoryInformation.getRepositoryInterface().getName()) //
+				.tag("method", method.getName());
+	}
+
 	private Pair<Method, RepositoryQuery> lookupQuery(Method method, RepositoryInformation information,
 			QueryLookupStrategy strategy, ProjectionFactory projectionFactory) {
 		try {
@@ -135,33 +258,47 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 	public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
 
 		Method method = invocation.getMethod();
+		MethodInvocationDescriptor descriptor = invocationDescriptors.get(method);
 
-		QueryExecutionConverters.ExecutionAdapter executionAdapter = QueryExecutionConverters //
-				.getExecutionAdapter(method.getReturnType());
-
-		if (executionAdapter == null) {
-			return resultHandler.postProcessInvocationResult(doInvoke(invocation), method);
+		if (descriptor == null) {
+			descriptor = createInvocationDescriptor(method);
 		}
 
-		return executionAdapter //
-				.apply(() -> resultHandler.postProcessInvocationResult(doInvoke(invocation), method));
+		return invoke(invocation, descriptor);
+	}
+
+	private MethodInvocationDescriptor createInvocationDescriptor(Method method) {
+
+		RepositoryQuery query = queries.get(method);
+
+		return new MethodInvocationDescriptor(
+				query != null ? RepositoryMethodInvoker.forRepositoryQuery(method, query) : null,
+				QueryExecutionConverters.getExecutionAdapter(method.getReturnType()),
+				resultHandler.createReturnTypeDescriptor(method));
 	}
 
 	@Nullable
-	private Object doInvoke(MethodInvocation invocation) throws Throwable {
+	private Object invoke(MethodInvocation invocation, MethodInvocationDescriptor descriptor) throws Throwable {
 
-		Method method = invocation.getMethod();
+		QueryExecutionConverters.ExecutionAdapter executionAdapter = descriptor.executionAdapter();
+
+		if (executionAdapter == null) {
+			return resultHandler.postProcessInvocationResult(doInvoke(invocation, descriptor),
+					descriptor.returnTypeDescriptor());
+		}
 
-		if (hasQueryFor(method)) {
+		return executionAdapter //
+				.apply(() -> resultHandler.postProcessInvocationResult(doInvoke(invocation, descriptor),
+						descriptor.returnTypeDescriptor()));
+	}
 
-			RepositoryMethodInvoker invocationMetadata = invocationMetadataCache.get(method);
+	@Nullable
+	private Object doInvoke(MethodInvocation invocation, MethodInvocationDescriptor descriptor) throws Throwable {
 
-			if (invocationMetadata == null) {
-				invocationMetadata = RepositoryMethodInvoker.forRepositoryQuery(method, queries.get(method));
-				invocationMetadataCache.put(method, invocationMetadata);
-			}
+		RepositoryMethodInvoker invoker = descriptor.invoker();
 
-			return invocationMetadata.invoke(repositoryInformation.getRepositoryInterface(), invocationMulticaster,
+		if (invoker != null) {
+			return invoker.invoke(repositoryInformation.getRepositoryInterface(), invocationMulticaster,
 					invocation.getArguments());
 		}
 
@@ -169,13 +306,25 @@ class QueryExecutorMethodInterceptor implements MethodInterceptor {
 	}
 
 	/**
-	 * Returns whether we know of a query to execute for the given {@link Method};
+	 * A {@link RepositoryQuery} along with the time it took to resolve it.
 	 *
-	 * @param method
-	 * @return
+	 * @param query the resolved query.
+	 * @param duration the resolution duration in nanoseconds.
 	 */
-	private boolean hasQueryFor(Method method) {
-		return queries.containsKey(method);
-	}
+	private record TimedQueryLookup(RepositoryQuery query, long duration) {}
 
+	/**
+	 * Immutable, per-{@link Method} invocation state computed once for all repository interface methods when the
+	 * interceptor is created so that the actual invocation is a single lookup followed by straight-line execution.
+	 *
+	 * @param invoker the {@link RepositoryMethodInvoker} for query methods, {@literal null} to proceed with the
+	 *          invocation chain.
+	 * @param executionAdapter the {@link QueryExecutionConverters.ExecutionAdapter} for the method's return type, can be
+	 *          {@literal null}.
+	 * @param returnTypeDescriptor the return type used for result post-processing.
+	 */
+	private record MethodInvocationDescriptor(@Nullable RepositoryMethodInvoker invoker,
+			@Nullable QueryExecutionConverters.ExecutionAdapter executionAdapter,
+			ReturnTypeDescriptor returnTypeDescriptor) {
+	}
 }
@@ -0,0 +1,368 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.data.repository.CachedQueryResult;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link RepositoryProxyPostProcessor} caching the results of repository methods annotated with
+ * {@link CachedQueryResult}. Results are cached per method keyed by the invocation arguments and are bounded in size
+ * and lifetime according to the annotation. All cached results of a repository are invalidated when invoking a save,
+ * delete or modifying method on the same repository and, if invoked within a transaction, again after the transaction
+ * has completed. Modifying methods are methods annotated with one of the configured annotation types, by default the
+ * {@code @Modifying} annotations of the JPA, JDBC and R2DBC modules.
+ * <p>
+ * Methods returning a {@link java.util.stream.Stream}, {@link Iterator}, {@link Future} or reactive wrapper type cannot
+ * be cached as their results cannot be consumed repeatedly.
+ *
+ * @since 3.1
+ * @see CachedQueryResult
+ */
+public class QueryResultCachingRepositoryProxyPostProcessor implements RepositoryProxyPostProcessor {
+
+	/**
+	 * The {@code @Modifying} annotations of store modules present on the classpath.
+	 */
+	static final Set<Class<? extends Annotation>> STORE_MODIFYING_ANNOTATION_TYPES = loadAnnotationTypes(
+			"org.springframework.data.jpa.repository.Modifying", //
+			"org.springframework.data.jdbc.repository.query.Modifying", //
+			"org.springframework.data.r2dbc.repository.Modifying");
+
+	private static final boolean TRANSACTIONS_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			QueryResultCachingRepositoryProxyPostProcessor.class.getClassLoader());
+
+	private final Set<Class<? extends Annotation>> modifyingAnnotationTypes;
+
+	/**
+	 * Creates a new {@link QueryResultCachingRepositoryProxyPostProcessor} considering the {@code @Modifying} annotations
+	 * of the JPA, JDBC and R2DBC modules.
+	 */
+	public QueryResultCachingRepositoryProxyPostProcessor() {
+		this(STORE_MODIFYING_ANNOTATION_TYPES);
+	}
+
+	/**
+	 * Creates a new {@link QueryResultCachingRepositoryProxyPostProcessor} considering methods annotated with one of the
+	 * given annotation types as modifying methods in addition to save and delete methods.
+	 *
+	 * @param modifyingAnnotationTypes must not be {@literal null}.
+	 */
+	public QueryResultCachingRepositoryProxyPostProcessor(
+			Collection<Class<? extends Annotation>> modifyingAnnotationTypes) {
+
+		Assert.notNull(modifyingAnnotationTypes, "Modifying annotation types must not be null");
+
+		this.modifyingAnnotationTypes = new LinkedHashSet<>(modifyingAnnotationTypes);
+	}
+
+	@Override
+	public void postProcess(ProxyFactory factory, RepositoryInformation repositoryInformation) {
+
+		Map<Method, QueryResultCache> caches = new HashMap<>();
+		Set<Method> modifyingMethods = new HashSet<>();
+
+		ReflectionUtils.doWithMethods(repositoryInformation.getRepositoryInterface(), method -> {
+
+			CachedQueryResult annotation = AnnotatedElementUtils.findMergedAnnotation(method, CachedQueryResult.class);
+
+			if (annotation != null) {
+				caches.put(method, QueryResultCache.of(method, annotation));
+			} else if (isModifyingMethod(method, modifyingAnnotationTypes)) {
+				modifyingMethods.add(method);
+			}
+		});
+
+		if (caches.isEmpty()) {
+			return;
+		}
+
+		factory.addAdvice(new QueryResultCachingMethodInterceptor(caches, modifyingMethods));
+	}
+
+	/**
+	 * Returns whether the given {@link Method} modifies the repository state and thus requires cached results to be
+	 * invalidated. Besides save and delete methods this considers methods annotated with one of the given annotation
+	 * types, e.g. a store-specific {@code @Modifying} annotation for update queries.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param modifyingAnnotationTypes must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isModifyingMethod(Method method, Collection<Class<? extends Annotation>> modifyingAnnotationTypes) {
+
+		String name = method.getName();
+
+		// considers derived delete methods in addition to the CRUD delete methods
+		if (EventPublishingRepositoryProxyPostProcessor.isSaveMethod(name) || name.startsWith("delete")
+				|| name.startsWith("remove")) {
+			return true;
+		}
+
+		if (modifyingAnnotationTypes.isEmpty()) {
+			return false;
+		}
+
+		MergedAnnotations annotations = MergedAnnotations.from(method);
+
+		return modifyingAnnotationTypes.stream().anyMatch(annotations::isPresent);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<Class<? extends Annotation>> loadAnnotationTypes(String... typeNames) {
+
+		ClassLoader classLoader = QueryResultCachingRepositoryProxyPostProcessor.class.getClassLoader();
+		Set<Class<? extends Annotation>> types = new LinkedHashSet<>();
+
+		for (String typeName : typeNames) {
+			if (ClassUtils.isPresent(typeName, classLoader)) {
+				types.add((Class<? extends Annotation>) ClassUtils.resolveClassName(typeName, classLoader));
+			}
+		}
+
+		return Set.copyOf(types);
+	}
+
+	/**
+	 * {@link MethodInterceptor} serving cached results and invalidating caches on modifying methods.
+	 */
+	static class QueryResultCachingMethodInterceptor implements MethodInterceptor {
+
+		private final Map<Method, QueryResultCache> caches;
+		private final Set<Method> modifyingMethods;
+		private final AtomicLong generation = new AtomicLong();
+
+		QueryResultCachingMethodInterceptor(Map<Method, QueryResultCache> caches, Set<Method> modifyingMethods) {
+
+			this.caches = caches;
+			this.modifyingMethods = modifyingMethods;
+		}
+
+		@Nullable
+		@Override
+		public Object invoke(@SuppressWarnings("null") MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+			QueryResultCache cache = caches.get(method);
+
+			if (cache == null) {
+
+				if (!modifyingMethods.contains(method)) {
+					return invocation.proceed();
+				}
+
+				try {
+					return invocation.proceed();
+				} finally {
+					invalidate();
+					invalidateAfterTransaction();
+				}
+			}
+
+			InvocationArguments key = InvocationArguments.of(invocation);
+			CachedValue cached = cache.get(key);
+
+			if (cached != null) {
+				return cached.value();
+			}
+
+			// results computed concurrently with an invalidation must not be cached as they might be stale already
+			long generationAtStart = generation.get();
+			Object result = invocation.proceed();
+
+			cache.put(key, result, () -> generation.get() == generationAtStart);
+
+			return result;
+		}
+
+		private void invalidate() {
+
+			generation.incrementAndGet();
+			caches.values().forEach(QueryResultCache::clear);
+		}
+
+		/**
+		 * Invalidates cached results once more after completion of a surrounding transaction as results cached before the
+		 * modification has been committed are stale, or contain uncommitted changes in case of a rollback.
+		 */
+		private void invalidateAfterTransaction() {
+
+			if (!TRANSACTIONS_PRESENT || !TransactionSynchronizationManager.isSynchronizationActive()) {
+				return;
+			}
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					invalidate();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Size-bounded cache of results for a single method evicting the least recently used result. Lookups do not lock,
+	 * adding results and clearing the cache is serialized.
+	 */
+	static class QueryResultCache {
+
+		private final long timeToLiveNanos;
+		private final int maxSize;
+		private final Map<InvocationArguments, CachedValue> values = new ConcurrentHashMap<>();
+
+		private QueryResultCache(long timeToLiveNanos, int maxSize) {
+
+			this.timeToLiveNanos = timeToLiveNanos;
+			this.maxSize = maxSize;
+		}
+
+		static QueryResultCache of(Method method, CachedQueryResult annotation) {
+
+			Class<?> returnType = method.getReturnType();
+
+			if (BaseStream.class.isAssignableFrom(returnType) || Iterator.class.isAssignableFrom(returnType)
+					|| Future.class.isAssignableFrom(returnType) || ReactiveWrappers.supports(returnType)) {
+				throw new IllegalStateException(
+						String.format("Cannot cache results of method %s returning %s", method, returnType.getName()));
+			}
+
+			Assert.state(annotation.timeToLive() >= 0,
+					() -> String.format("Time to live of method %s must not be negative", method));
+			Assert.state(annotation.maxSize() > 0,
+					() -> String.format("Maximum cache size of method %s must be positive", method));
+
+			return new QueryResultCache(annotation.timeUnit().toNanos(annotation.timeToLive()), annotation.maxSize());
+		}
+
+		@Nullable
+		CachedValue get(InvocationArguments key) {
+
+			CachedValue cached = values.get(key);
+
+			if (cached == null) {
+				return null;
+			}
+
+			long now = System.nanoTime();
+
+			if (cached.isExpired(now)) {
+				values.remove(key, cached);
+				return null;
+			}
+
+			cached.accessed(now);
+
+			return cached;
+		}
+
+		synchronized void put(InvocationArguments key, @Nullable Object value, BooleanSupplier condition) {
+
+			if (!condition.getAsBoolean()) {
+				return;
+			}
+
+			long now = System.nanoTime();
+
+			values.put(key, new CachedValue(value, timeToLiveNanos == 0 ? 0 : now + timeToLiveNanos, now));
+
+			while (values.size() > maxSize) {
+				evictLeastRecentlyUsed(key);
+			}
+		}
+
+		synchronized void clear() {
+			values.clear();
+		}
+
+		private void evictLeastRecentlyUsed(InvocationArguments added) {
+
+			Map.Entry<InvocationArguments, CachedValue> eldest = null;
+
+			for (Map.Entry<InvocationArguments, CachedValue> entry : values.entrySet()) {
+
+				if (!entry.getKey().equals(added) && (eldest == null
+						|| entry.getValue().lastAccessedNanos - eldest.getValue().lastAccessedNanos < 0)) {
+					eldest = entry;
+				}
+			}
+
+			if (eldest != null) {
+				values.remove(eldest.getKey(), eldest.getValue());
+			}
+		}
+	}
+
+	/**
+	 * A cached result along with its expiry and the time it was last accessed. An expiry of zero indicates results that
+	 * do not expire.
+	 */
+	static class CachedValue {
+
+		private final @Nullable Object value;
+		private final long expiresAtNanos;
+		private volatile long lastAccessedNanos;
+
+		CachedValue(@Nullable Object value, long expiresAtNanos, long lastAccessedNanos) {
+
+			this.value = value;
+			this.expiresAtNanos = expiresAtNanos;
+			this.lastAccessedNanos = lastAccessedNanos;
+		}
+
+		@Nullable
+		Object value() {
+			return value;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAtNanos != 0 && now - expiresAtNanos >= 0;
+		}
+
+		void accessed(long now) {
+			this.lastAccessedNanos = now;
+		}
+	}
+}
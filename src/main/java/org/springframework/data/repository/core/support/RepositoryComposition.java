@@ -102,6 +102,7 @@ public class RepositoryComposition {
 			MethodLookups.direct(), PASSTHRU_ARG_CONVERTER);
 
 	private final Map<Method, Method> methodCache = new ConcurrentReferenceHashMap<>();
+	private final Map<Method, FragmentMethodDispatch> dispatchTable = new ConcurrentHashMap<>();
 	private final RepositoryFragments fragments;
 	private final MethodLookup methodLookup;
 	private final BiFunction<Method, Object[], Object[]> argumentConverter;
@@ -274,16 +275,69 @@ public class RepositoryComposition {
 	 */
 	Object invoke(RepositoryInvocationMulticaster listener, Method method, Object[] args) throws Throwable {
 
+		FragmentMethodDispatch dispatch = dispatchTable.get(method);
+
+		if (dispatch == null) {
+
+			dispatch = resolveDispatch(method);
+
+			if (dispatch == null) {
+				throw new IllegalArgumentException(String.format("No fragment found for method %s", method));
+			}
+
+			dispatchTable.putIfAbsent(method, dispatch);
+		}
+
+		return dispatch.invoker().invoke(dispatch.repositoryInterface(), listener,
+				argumentConverter.apply(dispatch.methodToCall(), args));
+	}
+
+	/**
+	 * Eagerly resolves the fragment dispatch for all methods of the given repository interface that are backed by a
+	 * {@link RepositoryFragment} so that subsequent invocations require a single lookup only. Methods that cannot be
+	 * routed to a fragment are skipped and resolved lazily upon invocation.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @since 3.1
+	 */
+	void precomputeDispatch(Class<?> repositoryInterface) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+
+		for (Method method : repositoryInterface.getMethods()) {
+
+			if (dispatchTable.containsKey(method)) {
+				continue;
+			}
+
+			FragmentMethodDispatch dispatch = resolveDispatch(method);
+
+			if (dispatch != null) {
+				dispatchTable.put(method, dispatch);
+			}
+		}
+	}
+
+	@Nullable
+	private FragmentMethodDispatch resolveDispatch(Method method) {
+
 		Method methodToCall = getMethod(method);
 
 		if (methodToCall == null) {
-			throw new IllegalArgumentException(String.format("No fragment found for method %s", method));
+			return null;
+		}
+
+		Optional<?> implementation = fragments.findImplementationFragment(methodToCall)
+				.flatMap(RepositoryFragment::getImplementation);
+
+		if (implementation.isEmpty()) {
+			return null;
 		}
 
 		ReflectionUtils.makeAccessible(methodToCall);
 
-		return fragments.invoke(metadata != null ? metadata.getRepositoryInterface() : method.getDeclaringClass(), listener,
-				method, methodToCall, argumentConverter.apply(methodToCall, args));
+		return new FragmentMethodDispatch(metadata != null ? metadata.getRepositoryInterface() : method.getDeclaringClass(),
+				methodToCall, RepositoryMethodInvoker.forFragmentMethod(method, implementation.get(), methodToCall));
 	}
 
 	/**
@@ -497,7 +551,9 @@ public class RepositoryComposition {
 		Object invoke(Class<?> repositoryInterface, RepositoryInvocationMulticaster listener, Method invokedMethod,
 				Method methodToCall, Object[] args) throws Throwable {
 
-			RepositoryFragment<?> fragment = fragmentCache.computeIfAbsent(methodToCall, this::findImplementationFragment);
+			RepositoryFragment<?> fragment = fragmentCache.computeIfAbsent(methodToCall,
+					key -> findImplementationFragment(key).orElseThrow(
+							() -> new IllegalArgumentException(String.format("No fragment found for method %s", key))));
 			Optional<?> optional = fragment.getImplementation();
 
 			if (!optional.isPresent()) {
@@ -516,12 +572,11 @@ public class RepositoryComposition {
 			return repositoryMethodInvoker.invoke(repositoryInterface, listener, args);
 		}
 
-		private RepositoryFragment<?> findImplementationFragment(Method key) {
+		private Optional<RepositoryFragment<?>> findImplementationFragment(Method key) {
 
 			return stream().filter(it -> it.hasMethod(key)) //
 					.filter(it -> it.getImplementation().isPresent()) //
-					.findFirst()
-					.orElseThrow(() -> new IllegalArgumentException(String.format("No fragment found for method %s", key)));
+					.findFirst();
 		}
 
 		@Nullable
@@ -587,4 +642,14 @@ public class RepositoryComposition {
 			return result;
 		}
 	}
+
+	/**
+	 * Resolved dispatch of a method invoked on the repository interface to its backing fragment implementation.
+	 *
+	 * @param repositoryInterface the repository interface reported to listeners.
+	 * @param methodToCall the fragment method backing the invocation.
+	 * @param invoker the invoker calling {@code methodToCall} on the fragment implementation.
+	 * @since 3.1
+	 */
+	record FragmentMethodDispatch(Class<?> repositoryInterface, Method methodToCall, RepositoryMethodInvoker invoker) {}
 }
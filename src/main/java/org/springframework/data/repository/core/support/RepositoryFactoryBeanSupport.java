@@ -26,6 +26,7 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultSingletonBeanRegistry;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.mapping.PersistentEntity;
@@ -76,6 +77,7 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 	private ApplicationEventPublisher publisher;
 
 	private Lazy<T> repository;
+	private Object repositoryMonitor = this;
 
 	private RepositoryMetadata repositoryMetadata;
 
@@ -188,6 +190,10 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 
 		this.beanFactory = beanFactory;
 
+		if (beanFactory instanceof DefaultSingletonBeanRegistry registry) {
+			this.repositoryMonitor = registry.getSingletonMutex();
+		}
+
 		if (!this.evaluationContextProvider.isPresent() && ListableBeanFactory.class.isInstance(beanFactory)) {
 			this.evaluationContextProvider = createDefaultQueryMethodEvaluationContextProvider(
 					(ListableBeanFactory) beanFactory);
@@ -236,7 +242,13 @@ public abstract class RepositoryFactoryBeanSupport<T extends Repository<S, ID>,
 
 	@NonNull
 	public T getObject() {
-		return this.repository.get();
+
+		// Repositories might get initialized by a background bootstrap. Creation needs to lock the container's singleton
+		// mutex first as the container holds it when calling this method and repository creation might obtain beans.
+
+		synchronized (this.repositoryMonitor) {
+			return this.repository.get();
+		}
 	}
 
 	@NonNull
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.aopalliance.intercept.MethodInterceptor;
@@ -104,6 +105,8 @@ public abstract class RepositoryFactorySupport implements BeanClassLoaderAware,
 	private QueryMethodEvaluationContextProvider evaluationContextProvider;
 	private BeanFactory beanFactory;
 	private Lazy<ProjectionFactory> projectionFactory;
+	private @Nullable Executor asyncExecutor;
+	private @Nullable Executor queryLookupExecutor;
 
 	private final QueryCollectingQueryCreationListener collectingListener = new QueryCollectingQueryCreationListener();
 
@@ -176,6 +179,36 @@ public abstract class RepositoryFactorySupport implements BeanClassLoaderAware,
 		this.repositoryBaseClass = Optional.ofNullable(repositoryBaseClass);
 	}
 
+	/**
+	 * Configures the {@link Executor} to run repository methods returning {@link java.util.concurrent.Future},
+	 * {@link java.util.concurrent.CompletableFuture} or {@link org.springframework.util.concurrent.ListenableFuture}.
+	 * Without an executor, such methods are invoked on the calling thread and return an already completed future unless
+	 * asynchronous execution is configured through {@code @Async}.
+	 * <p>
+	 * On Java 21 and newer, a virtual thread per task executor ({@code Executors.newVirtualThreadPerTaskExecutor()}) is
+	 * recommended for blocking stores. Invocations participating in transaction synchronization are always invoked on
+	 * the calling thread. Other thread-bound context, such as the security context, must be propagated by the executor.
+	 *
+	 * @param asyncExecutor the executor to use, can be {@literal null} to invoke methods on the calling thread.
+	 * @since 3.1
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Configures the {@link Executor} to resolve the queries of query methods on while creating a repository. Without
+	 * an executor, queries are resolved one after another on the thread creating the repository. The
+	 * {@link QueryLookupStrategy} must be thread-safe to resolve queries concurrently. {@link QueryCreationListener}s
+	 * are invoked in query method order on the thread creating the repository in either case.
+	 *
+	 * @param queryLookupExecutor the executor to use, can be {@literal null} to resolve queries sequentially.
+	 * @since 3.1
+	 */
+	public void setQueryLookupExecutor(@Nullable Executor queryLookupExecutor) {
+		this.queryLookupExecutor = queryLookupExecutor;
+	}
+
 	/**
 	 * Adds a {@link QueryCreationListener} to the factory to plug in functionality triggered right after creation of
 	 * {@link RepositoryQuery} instances.
@@ -332,6 +365,10 @@ public abstract class RepositoryFactorySupport implements BeanClassLoaderAware,
 			result.addAdvice(new MethodInvocationValidator());
 		}
 
+		if (asyncExecutor != null) {
+			result.addAdvice(new AsyncRepositoryMethodInterceptor(asyncExecutor));
+		}
+
 		result.addAdvisor(ExposeInvocationInterceptor.ADVISOR);
 
 		if (!postProcessors.isEmpty()) {
@@ -355,7 +392,7 @@ public abstract class RepositoryFactorySupport implements BeanClassLoaderAware,
 		Optional<QueryLookupStrategy> queryLookupStrategy = getQueryLookupStrategy(queryLookupStrategyKey,
 				evaluationContextProvider);
 		result.addAdvice(new QueryExecutorMethodInterceptor(information, getProjectionFactory(), queryLookupStrategy,
-				namedQueries, queryPostProcessors, methodInvocationListeners));
+				namedQueries, queryPostProcessors, methodInvocationListeners, applicationStartup, queryLookupExecutor));
 
 		result.addAdvice(
 				new ImplementationMethodExecutionInterceptor(information, compositionToUse, methodInvocationListeners));
@@ -613,6 +650,7 @@ public abstract class RepositoryFactorySupport implements BeanClassLoaderAware,
 				RepositoryComposition composition, List<RepositoryMethodInvocationListener> methodInvocationListeners) {
 			this.information = information;
 			this.composition = composition;
+			this.composition.precomputeDispatch(information.getRepositoryInterface());
 			this.invocationMulticaster = methodInvocationListeners.isEmpty() ? NoOpRepositoryInvocationMulticaster.INSTANCE
 					: new DefaultRepositoryInvocationMulticaster(methodInvocationListeners);
 		}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+import java.util.StringJoiner;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.lang.Nullable;
+
+/**
+ * JDK Flight Recorder {@link Event} capturing a repository method invocation. Events are only instantiated if the
+ * event type is enabled in a running recording so that disabled recordings do not add overhead to repository calls.
+ *
+ * @since 3.1
+ * @see RepositoryMethodInvoker
+ */
+@Name("org.springframework.data.RepositoryMethodInvocation")
+@Label("Repository Method Invocation")
+@Category({ "Spring Data", "Repository" })
+@Description("Invocation of a repository query or fragment method")
+@StackTrace(false)
+class RepositoryMethodInvocationEvent extends Event {
+
+	// enablement is a property of the event type, a shared instance allows checking it without allocation
+	private static final RepositoryMethodInvocationEvent PROBE = new RepositoryMethodInvocationEvent();
+
+	@Label("Repository Interface") Class<?> repositoryInterface;
+
+	@Label("Method") String method;
+
+	@Label("State") String state;
+
+	@Label("Error Type") @Nullable Class<?> errorType;
+
+	// transient fields are not recorded
+	private transient boolean committed;
+
+	/**
+	 * Creates and begins a new {@link RepositoryMethodInvocationEvent} if the event type is enabled.
+	 *
+	 * @return the started event or {@literal null} if the event type is disabled.
+	 */
+	@Nullable
+	static RepositoryMethodInvocationEvent beginIfEnabled() {
+
+		if (!PROBE.isEnabled()) {
+			return null;
+		}
+
+		RepositoryMethodInvocationEvent event = new RepositoryMethodInvocationEvent();
+		event.begin();
+
+		return event;
+	}
+
+	/**
+	 * Ends and commits the event if its duration exceeds the configured threshold. Subsequent calls are ignored so that
+	 * an invocation is recorded at most once.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @param method the invoked method.
+	 * @param state the invocation outcome.
+	 * @param error the error, can be {@literal null}.
+	 */
+	void commit(Class<?> repositoryInterface, Method method, State state, @Nullable Throwable error) {
+
+		if (committed) {
+			return;
+		}
+
+		committed = true;
+		end();
+
+		if (!shouldCommit()) {
+			return;
+		}
+
+		this.repositoryInterface = repositoryInterface;
+		this.method = toSignature(method);
+		this.state = state.name();
+		this.errorType = error != null ? error.getClass() : null;
+
+		commit();
+	}
+
+	/**
+	 * Renders the method name along with its parameter types to tell overloaded methods apart, e.g.
+	 * {@code findById(Long)}.
+	 */
+	private static String toSignature(Method method) {
+
+		StringJoiner parameters = new StringJoiner(",", method.getName() + "(", ")");
+
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			parameters.add(parameterType.getSimpleName());
+		}
+
+		return parameters.toString();
+	}
+}
@@ -0,0 +1,375 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryMethodInvocationListener} recording per-method latencies into fixed-size, lock-free histograms.
+ * Histograms use log-linear buckets (eight linear sub-buckets per power of two) resulting in a relative error of at
+ * most 12.5% and a fixed memory footprint of a few kilobytes per repository method. Durations of {@code 2^41}
+ * nanoseconds (about 36 minutes) or more are recorded in the last bucket.
+ * <p>
+ * Recording does not allocate and does not lock, so the listener can be registered permanently through
+ * {@link RepositoryFactorySupport#addInvocationListener(RepositoryMethodInvocationListener)}. Statistics are obtained
+ * through {@link #getStatistics()} and can be exported to a monitoring system from there. The class is annotated as
+ * {@link ManagedResource}, so registering it as bean in an application context exporting annotated MBeans (e.g. using
+ * {@code @EnableMBeanExport}) exposes a summary of the statistics through JMX.
+ *
+ * @since 3.1
+ */
+@ManagedResource(description = "Spring Data repository method invocation metrics")
+public class RepositoryMethodInvocationMetrics implements RepositoryMethodInvocationListener {
+
+	private volatile Map<Class<?>, Map<Method, MethodMetrics>> metrics = new ConcurrentHashMap<>();
+
+	@Override
+	public void afterInvocation(RepositoryMethodInvocation invocation) {
+
+		RepositoryMethodInvocationResult result = invocation.getResult();
+		State state = result != null ? result.getState() : State.SUCCESS;
+
+		// Only completed invocations are recorded
+
+		if (state != State.SUCCESS && state != State.ERROR && state != State.CANCELED) {
+			return;
+		}
+
+		getMetrics(invocation.getRepositoryInterface(), invocation.getMethod()).record(state,
+				invocation.getDuration(TimeUnit.NANOSECONDS));
+	}
+
+	/**
+	 * Returns a snapshot of the statistics recorded for all repository methods.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Map<RepositoryMethod, MethodStatistics> getStatistics() {
+
+		Map<RepositoryMethod, MethodStatistics> statistics = new LinkedHashMap<>();
+
+		this.metrics.forEach((repositoryInterface, methods) -> methods.forEach((method, methodMetrics) -> statistics
+				.put(new RepositoryMethod(repositoryInterface, method), methodMetrics.toStatistics())));
+
+		return Collections.unmodifiableMap(statistics);
+	}
+
+	/**
+	 * Returns a textual summary of the statistics recorded for all repository methods keyed by
+	 * {@link RepositoryMethod#toString()}, suitable for exposure through JMX.
+	 *
+	 * @return never {@literal null}.
+	 */
+	@ManagedAttribute(description = "Invocation statistics per repository method")
+	public Map<String, String> getStatisticsSummary() {
+
+		Map<String, String> summary = new TreeMap<>();
+
+		getStatistics().forEach((method, statistics) -> summary.put(method.toString(), statistics.toString()));
+
+		return summary;
+	}
+
+	/**
+	 * Returns a snapshot of the statistics recorded for the given repository method.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return the statistics or {@literal null} if the method was not invoked yet.
+	 */
+	@Nullable
+	public MethodStatistics getStatistics(Class<?> repositoryInterface, Method method) {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(method, "Method must not be null");
+
+		Map<Method, MethodMetrics> methods = this.metrics.get(repositoryInterface);
+		MethodMetrics methodMetrics = methods != null ? methods.get(method) : null;
+
+		return methodMetrics != null ? methodMetrics.toStatistics() : null;
+	}
+
+	/**
+	 * Resets all statistics recorded so far by atomically switching to a new set of metrics. Invocations that complete
+	 * while resetting are recorded against the discarded metrics and therefore not reported.
+	 */
+	@ManagedOperation(description = "Resets all statistics recorded so far")
+	public void reset() {
+		this.metrics = new ConcurrentHashMap<>();
+	}
+
+	private MethodMetrics getMetrics(Class<?> repositoryInterface, Method method) {
+
+		Map<Class<?>, Map<Method, MethodMetrics>> metrics = this.metrics;
+		Map<Method, MethodMetrics> methods = metrics.get(repositoryInterface);
+
+		if (methods == null) {
+			methods = metrics.computeIfAbsent(repositoryInterface, it -> new ConcurrentHashMap<>());
+		}
+
+		MethodMetrics methodMetrics = methods.get(method);
+
+		if (methodMetrics == null) {
+			methodMetrics = methods.computeIfAbsent(method, it -> new MethodMetrics());
+		}
+
+		return methodMetrics;
+	}
+
+	/**
+	 * Identifies a method invoked through a particular repository interface. Methods declared in base interfaces such as
+	 * {@link org.springframework.data.repository.CrudRepository} are recorded per repository interface.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @param method the invoked method.
+	 */
+	public record RepositoryMethod(Class<?> repositoryInterface, Method method) {
+
+		@Override
+		public String toString() {
+
+			return repositoryInterface.getSimpleName() + "." + method.getName() + Arrays.stream(method.getParameterTypes()) //
+					.map(Class::getSimpleName) //
+					.collect(Collectors.joining(", ", "(", ")"));
+		}
+	}
+
+	/**
+	 * Snapshot of the statistics recorded for a repository method.
+	 */
+	public static class MethodStatistics {
+
+		private final long successCount;
+		private final long errorCount;
+		private final long cancelCount;
+		private final long totalNanos;
+		private final long maxNanos;
+		private final long[] buckets;
+		private final long count;
+
+		MethodStatistics(long successCount, long errorCount, long cancelCount, long totalNanos, long maxNanos,
+				long[] buckets) {
+
+			this.successCount = successCount;
+			this.errorCount = errorCount;
+			this.cancelCount = cancelCount;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.buckets = buckets;
+
+			long count = 0;
+
+			for (long bucket : buckets) {
+				count += bucket;
+			}
+
+			this.count = count;
+		}
+
+		public long getSuccessCount() {
+			return successCount;
+		}
+
+		public long getErrorCount() {
+			return errorCount;
+		}
+
+		public long getCancelCount() {
+			return cancelCount;
+		}
+
+		/**
+		 * @return the total number of recorded invocations.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @param timeUnit must not be {@literal null}.
+		 * @return the mean invocation duration in the given {@link TimeUnit}.
+		 */
+		public double getMean(TimeUnit timeUnit) {
+
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			return count == 0 ? 0 : (double) totalNanos / count / timeUnit.toNanos(1);
+		}
+
+		/**
+		 * @param timeUnit must not be {@literal null}.
+		 * @return the maximum invocation duration in the given {@link TimeUnit}.
+		 */
+		public long getMax(TimeUnit timeUnit) {
+
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			return timeUnit.convert(maxNanos, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the invocation duration at the given percentile. The returned value is the upper bound of the histogram
+		 * bucket containing the percentile, capped at the maximum recorded duration.
+		 *
+		 * @param percentile the percentile between {@literal 0} and {@literal 100}.
+		 * @param timeUnit must not be {@literal null}.
+		 * @return the duration at the given percentile in the given {@link TimeUnit}, {@literal 0} if no invocation was
+		 *         recorded.
+		 */
+		public long getValueAtPercentile(double percentile, TimeUnit timeUnit) {
+
+			Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			if (count == 0) {
+				return 0;
+			}
+
+			long threshold = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+			long seen = 0;
+
+			for (int i = 0; i < buckets.length; i++) {
+
+				seen += buckets[i];
+
+				if (seen >= threshold) {
+					return timeUnit.convert(Math.min(Histogram.upperBound(i), maxNanos), TimeUnit.NANOSECONDS);
+				}
+			}
+
+			return timeUnit.convert(maxNanos, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("count=%d, success=%d, error=%d, canceled=%d, mean=%.3f ms, p99=%d µs, max=%d µs", count,
+					successCount, errorCount, cancelCount, getMean(TimeUnit.NANOSECONDS) / 1_000_000,
+					getValueAtPercentile(99, TimeUnit.MICROSECONDS), getMax(TimeUnit.MICROSECONDS));
+		}
+	}
+
+	/**
+	 * Mutable, thread-safe metrics of a single repository method.
+	 */
+	private static class MethodMetrics {
+
+		private final LongAdder successCount = new LongAdder();
+		private final LongAdder errorCount = new LongAdder();
+		private final LongAdder cancelCount = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		private final Histogram histogram = new Histogram();
+
+		void record(State state, long durationNanos) {
+
+			switch (state) {
+				case SUCCESS -> successCount.increment();
+				case ERROR -> errorCount.increment();
+				case CANCELED -> cancelCount.increment();
+				default -> {
+					return;
+				}
+			}
+
+			long duration = Math.max(0, durationNanos);
+
+			totalNanos.add(duration);
+			maxNanos.accumulate(duration);
+			histogram.record(duration);
+		}
+
+		MethodStatistics toStatistics() {
+			return new MethodStatistics(successCount.sum(), errorCount.sum(), cancelCount.sum(), totalNanos.sum(),
+					maxNanos.get(), histogram.snapshot());
+		}
+	}
+
+	/**
+	 * Log-linear histogram with eight sub-buckets per power of two backed by an {@link AtomicLongArray}.
+	 */
+	static class Histogram {
+
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+		private static final int MAX_MAGNITUDE = 40;
+		private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		void record(long value) {
+			buckets.incrementAndGet(indexOf(value));
+		}
+
+		long[] snapshot() {
+
+			long[] snapshot = new long[BUCKETS];
+
+			for (int i = 0; i < BUCKETS; i++) {
+				snapshot[i] = buckets.get(i);
+			}
+
+			return snapshot;
+		}
+
+		static int indexOf(long value) {
+
+			if (value < SUB_BUCKETS) {
+				return (int) Math.max(0, value);
+			}
+
+			int magnitude = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+
+			if (magnitude == MAX_MAGNITUDE && value >= (1L << (MAX_MAGNITUDE + 1))) {
+				return BUCKETS - 1;
+			}
+
+			int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+			return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+		}
+
+		static long upperBound(int index) {
+
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+
+			int magnitude = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+			long subBucket = index % SUB_BUCKETS;
+			long lowerBound = (SUB_BUCKETS + subBucket) << (magnitude - SUB_BUCKET_BITS);
+
+			return lowerBound + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+		}
+	}
+}
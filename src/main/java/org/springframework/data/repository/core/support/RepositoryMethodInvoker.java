@@ -36,6 +36,7 @@ import org.springframework.data.repository.util.ReactiveWrapperConverters;
 import org.springframework.data.util.KotlinReflectionUtils;
 import org.springframework.data.util.ReactiveWrappers;
 import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
 /**
  * Invoker for repository methods. Used to invoke query methods and fragment methods. This invoker considers Kotlin
@@ -131,26 +132,27 @@ abstract class RepositoryMethodInvoker {
 		RepositoryMethodInvocationCaptor invocationResultCaptor = RepositoryMethodInvocationCaptor
 				.captureInvocationOn(repositoryInterface);
 
-		try {
+		Object result;
 
-			Object result = invokable.invoke(args);
+		try {
+			result = invokable.invoke(args);
+		} catch (Exception e) {
+			notifyListeners(multicaster, args, invocationResultCaptor.error(e));
+			throw e;
+		}
 
-			if (result != null && ReactiveWrappers.supports(result.getClass())) {
-				return new ReactiveInvocationListenerDecorator().decorate(repositoryInterface, multicaster, args, result);
-			}
+		// listeners are notified outside the try block so that a failing listener does not report the invocation twice
+		if (result != null && ReactiveWrappers.supports(result.getClass())) {
+			return new ReactiveInvocationListenerDecorator().decorate(repositoryInterface, multicaster, args, result);
+		}
 
-			if (result instanceof Stream) {
-				return ((Stream<?>) result).onClose(
-						() -> multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.success())));
-			}
+		if (result instanceof Stream) {
+			return ((Stream<?>) result).onClose(() -> notifyListeners(multicaster, args, invocationResultCaptor.success()));
+		}
 
-			multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.success()));
+		notifyListeners(multicaster, args, invocationResultCaptor.success());
 
-			return result;
-		} catch (Exception e) {
-			multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.error(e)));
-			throw e;
-		}
+		return result;
 	}
 
 	@Nullable
@@ -168,24 +170,28 @@ abstract class RepositoryMethodInvoker {
 
 		RepositoryMethodInvocationCaptor invocationResultCaptor = RepositoryMethodInvocationCaptor
 				.captureInvocationOn(repositoryInterface);
-		try {
-
-			Publisher<?> result = new ReactiveInvocationListenerDecorator().decorate(repositoryInterface, multicaster, args,
-					invokable.invoke(args));
-
-			if (returnsReactiveType) {
-				return ReactiveWrapperConverters.toWrapper(result, returnedType);
-			}
 
-			if (Collection.class.isAssignableFrom(returnedType)) {
-				result = (Publisher<?>) collectToList(result);
-			}
+		Object invocationResult;
 
-			return AwaitKt.awaitSingleOrNull(result, continuation);
+		try {
+			invocationResult = invokable.invoke(args);
 		} catch (Exception e) {
-			multicaster.notifyListeners(method, args, computeInvocationResult(invocationResultCaptor.error(e)));
+			notifyListeners(multicaster, args, invocationResultCaptor.error(e));
 			throw e;
 		}
+
+		Publisher<?> result = new ReactiveInvocationListenerDecorator().decorate(repositoryInterface, multicaster, args,
+				invocationResult);
+
+		if (returnsReactiveType) {
+			return ReactiveWrapperConverters.toWrapper(result, returnedType);
+		}
+
+		if (Collection.class.isAssignableFrom(returnedType)) {
+			result = (Publisher<?>) collectToList(result);
+		}
+
+		return AwaitKt.awaitSingleOrNull(result, continuation);
 	}
 
 	// to avoid NoClassDefFoundError: org/reactivestreams/Publisher when loading this class ¯\_(ツ)_/¯
@@ -193,6 +199,13 @@ abstract class RepositoryMethodInvoker {
 		return Flux.from((Publisher<?>) result).collectList();
 	}
 
+	private void notifyListeners(RepositoryInvocationMulticaster multicaster, Object[] args,
+			RepositoryMethodInvocationCaptor captured) {
+
+		captured.recordEvent(method);
+		multicaster.notifyListeners(method, args, computeInvocationResult(captured));
+	}
+
 	private RepositoryMethodInvocation computeInvocationResult(RepositoryMethodInvocationCaptor captured) {
 		return new RepositoryMethodInvocation(captured.getRepositoryInterface(), method, captured.getCapturedResult(),
 				captured.getDuration());
@@ -227,13 +240,13 @@ abstract class RepositoryMethodInvoker {
 							it.trackStart();
 							return ReactiveWrapperConverters.toWrapper(result, Mono.class);
 						}, it -> {
-							multicaster.notifyListeners(method, args, computeInvocationResult(it.success()));
+							notifyListeners(multicaster, args, it.success());
 							return Mono.empty();
 						}, (it, e) -> {
-							multicaster.notifyListeners(method, args, computeInvocationResult(it.error(e)));
+							notifyListeners(multicaster, args, it.error(e));
 							return Mono.empty();
 						}, it -> {
-							multicaster.notifyListeners(method, args, computeInvocationResult(it.canceled()));
+							notifyListeners(multicaster, args, it.canceled());
 							return Mono.empty();
 						});
 			}
@@ -244,13 +257,13 @@ abstract class RepositoryMethodInvoker {
 						return result instanceof Publisher ? (Publisher<?>) result
 								: ReactiveWrapperConverters.toWrapper(result, Publisher.class);
 					}, it -> {
-						multicaster.notifyListeners(method, args, computeInvocationResult(it.success()));
+						notifyListeners(multicaster, args, it.success());
 						return Mono.empty();
 					}, (it, e) -> {
-						multicaster.notifyListeners(method, args, computeInvocationResult(it.error(e)));
+						notifyListeners(multicaster, args, it.error(e));
 						return Mono.empty();
 					}, it -> {
-						multicaster.notifyListeners(method, args, computeInvocationResult(it.canceled()));
+						notifyListeners(multicaster, args, it.canceled());
 						return Mono.empty();
 					});
 		}
@@ -371,39 +384,49 @@ abstract class RepositoryMethodInvoker {
 
 	private static class RepositoryMethodInvocationCaptor {
 
+		private static final boolean FLIGHT_RECORDER_PRESENT = ClassUtils.isPresent("jdk.jfr.Event",
+				RepositoryMethodInvocationCaptor.class.getClassLoader());
+
 		private final Class<?> repositoryInterface;
 		private long startTime;
 		private @Nullable Long endTime;
 		private final State state;
 		private final @Nullable Throwable error;
+		private final @Nullable RepositoryMethodInvocationEvent event;
 
 		protected RepositoryMethodInvocationCaptor(Class<?> repositoryInterface, long startTime, Long endTime, State state,
-				@Nullable Throwable exception) {
+				@Nullable Throwable exception, @Nullable RepositoryMethodInvocationEvent event) {
 
 			this.repositoryInterface = repositoryInterface;
 			this.startTime = startTime;
 			this.endTime = endTime;
 			this.state = state;
 			this.error = exception instanceof InvocationTargetException ? exception.getCause() : exception;
+			this.event = event;
 		}
 
 		public static RepositoryMethodInvocationCaptor captureInvocationOn(Class<?> repositoryInterface) {
-			return new RepositoryMethodInvocationCaptor(repositoryInterface, System.nanoTime(), null, State.RUNNING, null);
+
+			RepositoryMethodInvocationEvent event = FLIGHT_RECORDER_PRESENT ? RepositoryMethodInvocationEvent.beginIfEnabled()
+					: null;
+
+			return new RepositoryMethodInvocationCaptor(repositoryInterface, System.nanoTime(), null, State.RUNNING, null,
+					event);
 		}
 
 		public RepositoryMethodInvocationCaptor error(Throwable exception) {
 			return new RepositoryMethodInvocationCaptor(repositoryInterface, startTime, System.nanoTime(), State.ERROR,
-					exception);
+					exception, event);
 		}
 
 		public RepositoryMethodInvocationCaptor success() {
 			return new RepositoryMethodInvocationCaptor(repositoryInterface, startTime, System.nanoTime(), State.SUCCESS,
-					null);
+					null, event);
 		}
 
 		public RepositoryMethodInvocationCaptor canceled() {
 			return new RepositoryMethodInvocationCaptor(repositoryInterface, startTime, System.nanoTime(), State.CANCELED,
-					null);
+					null, event);
 		}
 
 		Class<?> getRepositoryInterface() {
@@ -411,7 +434,25 @@ abstract class RepositoryMethodInvoker {
 		}
 
 		void trackStart() {
+
 			startTime = System.nanoTime();
+
+			if (event != null) {
+				event.begin();
+			}
+		}
+
+		/**
+		 * Commits the Flight Recorder event for the captured invocation if the event type was enabled when the invocation
+		 * started.
+		 *
+		 * @param method the invoked method.
+		 */
+		void recordEvent(Method method) {
+
+			if (event != null) {
+				event.commit(repositoryInterface, method, state, error);
+			}
 		}
 
 		public State getState() {
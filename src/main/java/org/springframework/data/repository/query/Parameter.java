@@ -17,6 +17,7 @@ package org.springframework.data.repository.query;
 
 import static java.lang.String.*;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -249,6 +250,20 @@ public class Parameter {
 		return reactiveUnwrapped.equals(TypeInformation.fromMethodParameter(parameter).getComponentType());
 	}
 
+	/**
+	 * Returns whether arguments for this parameter can be wrapper types that need to be unwrapped before binding. Final
+	 * parameter types that are not wrapper types themselves can never hold a wrapped value.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	boolean mayHoldWrappedValue() {
+
+		Class<?> type = parameter.getParameterType();
+
+		return !type.isPrimitive() && (!Modifier.isFinal(type.getModifiers()) || isWrapped(parameter));
+	}
+
 	/**
 	 * Returns whether the {@link MethodParameter} is wrapped in a wrapper type.
 	 *
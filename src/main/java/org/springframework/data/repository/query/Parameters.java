@@ -56,6 +56,8 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 	private final int sortIndex;
 	private final List<T> parameters;
 	private final Lazy<S> bindable;
+	private final int[] bindableParameterIndexes;
+	private final int[] wrappedValueCandidateIndexes;
 
 	private int dynamicProjectionIndex;
 
@@ -125,6 +127,8 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 		this.pageableIndex = pageableIndex;
 		this.sortIndex = sortIndex;
 		this.bindable = Lazy.of(this::getBindable);
+		this.bindableParameterIndexes = bindableParameterIndexes(parameters);
+		this.wrappedValueCandidateIndexes = wrappedValueCandidateIndexes(parameters);
 
 		assertEitherAllParamAnnotatedOrNone();
 	}
@@ -147,15 +151,35 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 			T original = originals.get(i);
 			this.parameters.add(original);
 
-			pageableIndexTemp = original.isPageable() ? i : -1;
-			sortIndexTemp = original.isSort() ? i : -1;
-			dynamicProjectionTemp = original.isDynamicProjectionParameter() ? i : -1;
+			pageableIndexTemp = original.isPageable() ? i : pageableIndexTemp;
+			sortIndexTemp = original.isSort() ? i : sortIndexTemp;
+			dynamicProjectionTemp = original.isDynamicProjectionParameter() ? i : dynamicProjectionTemp;
 		}
 
 		this.pageableIndex = pageableIndexTemp;
 		this.sortIndex = sortIndexTemp;
 		this.dynamicProjectionIndex = dynamicProjectionTemp;
 		this.bindable = Lazy.of(() -> (S) this);
+		this.bindableParameterIndexes = bindableParameterIndexes(parameters);
+		this.wrappedValueCandidateIndexes = wrappedValueCandidateIndexes(parameters);
+	}
+
+	private static int[] bindableParameterIndexes(List<? extends Parameter> parameters) {
+		return parameters.stream().filter(Parameter::isBindable).mapToInt(Parameter::getIndex).toArray();
+	}
+
+	private static int[] wrappedValueCandidateIndexes(List<? extends Parameter> parameters) {
+
+		int[] indexes = new int[parameters.size()];
+		int count = 0;
+
+		for (int i = 0; i < parameters.size(); i++) {
+			if (parameters.get(i).mayHoldWrappedValue()) {
+				indexes[count++] = i;
+			}
+		}
+
+		return Arrays.copyOf(indexes, count);
 	}
 
 	private S getBindable() {
@@ -325,6 +349,30 @@ public abstract class Parameters<S extends Parameters<S, T>, T extends Parameter
 		return getBindableParameters().getParameter(bindableIndex);
 	}
 
+	/**
+	 * Returns the method parameter indexes of all bindable parameters in bindable parameter order, i.e. element {@code i}
+	 * is the index of the value bound for {@link #getBindableParameter(int) getBindableParameter(i)}. The returned array
+	 * must not be modified.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 */
+	int[] getBindableParameterIndexes() {
+		return bindableParameterIndexes;
+	}
+
+	/**
+	 * Returns the positions of parameters whose arguments can be wrapper types that need to be unwrapped. The returned
+	 * array must not be modified.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 * @see Parameter#mayHoldWrappedValue()
+	 */
+	int[] getWrappedValueCandidateIndexes() {
+		return wrappedValueCandidateIndexes;
+	}
+
 	/**
 	 * Asserts that either all of the non special parameters ({@link Pageable}, {@link Sort}) are annotated with
 	 * {@link Param} or none of them is.
@@ -33,6 +33,7 @@ import org.springframework.util.Assert;
 public class ParametersParameterAccessor implements ParameterAccessor {
 
 	private final Parameters<?, ?> parameters;
+	private final int[] bindableParameterIndexes;
 	private final Object[] values;
 
 	/**
@@ -49,8 +50,9 @@ public class ParametersParameterAccessor implements ParameterAccessor {
 		Assert.isTrue(parameters.getNumberOfParameters() == values.length, "Invalid number of parameters given");
 
 		this.parameters = parameters;
+		this.bindableParameterIndexes = parameters.getBindableParameterIndexes();
 
-		if (requiresUnwrapping(values)) {
+		if (requiresUnwrapping(parameters, values)) {
 			this.values = new Object[values.length];
 
 			for (int i = 0; i < values.length; i++) {
@@ -61,9 +63,12 @@ public class ParametersParameterAccessor implements ParameterAccessor {
 		}
 	}
 
-	private static boolean requiresUnwrapping(Object[] values) {
+	private static boolean requiresUnwrapping(Parameters<?, ?> parameters, Object[] values) {
+
+		for (int index : parameters.getWrappedValueCandidateIndexes()) {
+
+			Object value = values[index];
 
-		for (Object value : values) {
 			if (value != null && (QueryExecutionConverters.supports(value.getClass())
 					|| ReactiveWrapperConverters.supports(value.getClass()))) {
 				return true;
@@ -146,14 +151,20 @@ public class ParametersParameterAccessor implements ParameterAccessor {
 
 	@Override
 	public Object getBindableValue(int index) {
-		return values[parameters.getBindableParameter(index).getIndex()];
+
+		try {
+			return values[bindableParameterIndexes[index]];
+		} catch (IndexOutOfBoundsException e) {
+			throw new ParameterOutOfBoundsException(
+					"Invalid parameter index; You seem to have declared too little query method parameters", e);
+		}
 	}
 
 	@Override
 	public boolean hasBindableNullValue() {
 
-		for (Parameter parameter : parameters.getBindableParameters()) {
-			if (values[parameter.getIndex()] == null) {
+		for (int index : bindableParameterIndexes) {
+			if (values[index] == null) {
 				return true;
 			}
 		}
@@ -188,7 +199,7 @@ public class ParametersParameterAccessor implements ParameterAccessor {
 			Assert.notNull(accessor, "ParametersParameterAccessor must not be null");
 
 			this.accessor = accessor;
-			this.bindableParameterCount = accessor.getParameters().getBindableParameters().getNumberOfParameters();
+			this.bindableParameterCount = accessor.bindableParameterIndexes.length;
 		}
 
 		/**
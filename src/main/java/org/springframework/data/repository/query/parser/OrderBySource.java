@@ -43,7 +43,7 @@ class OrderBySource {
 
 	static OrderBySource EMPTY = new OrderBySource("");
 
-	private static final String BLOCK_SPLIT = "(?<=Asc|Desc)(?=\\p{Lu})";
+	private static final Pattern BLOCK_SPLIT = Pattern.compile("(?<=Asc|Desc)(?=\\p{Lu})");
 	private static final Pattern DIRECTION_SPLIT = Pattern.compile("(.+?)(Asc|Desc)?$");
 	private static final String INVALID_ORDER_SYNTAX = "Invalid order syntax for part %s";
 	private static final Set<String> DIRECTION_KEYWORDS = new HashSet<>(Arrays.asList("Asc", "Desc"));
@@ -75,7 +75,7 @@ class OrderBySource {
 			return;
 		}
 
-		for (String part : clause.split(BLOCK_SPLIT)) {
+		for (String part : BLOCK_SPLIT.split(clause)) {
 
 			Matcher matcher = DIRECTION_SPLIT.matcher(part);
 
@@ -15,9 +15,12 @@
  */
 package org.springframework.data.repository.query.parser;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,6 +32,7 @@ import org.springframework.data.repository.query.parser.PartTree.OrPart;
 import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -46,17 +50,9 @@ import org.springframework.util.StringUtils;
  */
 public class PartTree implements Streamable<OrPart> {
 
-	/*
-	 * We look for a pattern of: keyword followed by
-	 *
-	 *  an upper-case letter that has a lower-case variant \p{Lu}
-	 * OR
-	 *  any other letter NOT in the BASIC_LATIN Uni-code Block \\P{InBASIC_LATIN} (like Chinese, Korean, Japanese, etc.).
-	 *
-	 * @see <a href="https://www.regular-expressions.info/unicode.html">https://www.regular-expressions.info/unicode.html</a>
-	 * @see <a href="https://docs.oracle.com/javase/7/docs/api/java/util/regex/Pattern.html#ubc">Pattern</a>
-	 */
-	private static final String KEYWORD_TEMPLATE = "(%s)(?=(\\p{Lu}|\\P{InBASIC_LATIN}))";
+	private static final String AND = "And";
+	private static final String OR = "Or";
+	private static final String ORDER_BY = "OrderBy";
 	private static final String QUERY_PATTERN = "find|read|get|query|search|stream";
 	private static final String COUNT_PATTERN = "count";
 	private static final String EXISTS_PATTERN = "exists";
@@ -64,6 +60,8 @@ public class PartTree implements Streamable<OrPart> {
 	private static final Pattern PREFIX_TEMPLATE = Pattern.compile( //
 			"^(" + QUERY_PATTERN + "|" + COUNT_PATTERN + "|" + EXISTS_PATTERN + "|" + DELETE_PATTERN + ")((\\p{Lu}.*?))??By");
 
+	private static final Map<CacheKey, ParsedTree> CACHE = new ConcurrentReferenceHashMap<>();
+
 	/**
 	 * The subject, for example "findDistinctUserByNameOrderByAge" would have the subject "DistinctUser".
 	 */
@@ -86,15 +84,23 @@ public class PartTree implements Streamable<OrPart> {
 		Assert.notNull(source, "Source must not be null");
 		Assert.notNull(domainClass, "Domain class must not be null");
 
+		ParsedTree tree = CACHE.computeIfAbsent(new CacheKey(source, domainClass), PartTree::parse);
+
+		this.subject = tree.subject();
+		this.predicate = tree.predicate();
+	}
+
+	private static ParsedTree parse(CacheKey key) {
+
+		String source = key.source();
 		Matcher matcher = PREFIX_TEMPLATE.matcher(source);
 
 		if (!matcher.find()) {
-			this.subject = new Subject(Optional.empty());
-			this.predicate = new Predicate(source, domainClass);
-		} else {
-			this.subject = new Subject(Optional.of(matcher.group(0)));
-			this.predicate = new Predicate(source.substring(matcher.group().length()), domainClass);
+			return new ParsedTree(new Subject(Optional.empty()), new Predicate(source, key.domainClass()));
 		}
+
+		return new ParsedTree(new Subject(Optional.of(matcher.group(0))),
+				new Predicate(source.substring(matcher.group().length()), key.domainClass()));
 	}
 
 	public Iterator<OrPart> iterator() {
@@ -206,7 +212,9 @@ public class PartTree implements Streamable<OrPart> {
 
 	/**
 	 * Splits the given text at the given keywords. Expects camel-case style to only match concrete keywords and not
-	 * derivatives of it.
+	 * derivatives of it, i.e. the keyword has to be followed by an upper-case letter or any other letter not in the
+	 * {@code BASIC_LATIN} Unicode block (like Chinese, Korean, Japanese, etc.). Behaves like {@link Pattern#split} in
+	 * retaining leading but dropping trailing empty strings.
 	 *
 	 * @param text the text to split
 	 * @param keyword the keyword to split around
@@ -214,8 +222,45 @@ public class PartTree implements Streamable<OrPart> {
 	 */
 	private static String[] split(String text, String keyword) {
 
-		Pattern pattern = Pattern.compile(String.format(KEYWORD_TEMPLATE, keyword));
-		return pattern.split(text);
+		List<String> result = null;
+		int start = 0;
+		int index = text.indexOf(keyword);
+
+		while (index != -1) {
+
+			int end = index + keyword.length();
+
+			if (end < text.length() && isKeywordBoundary(text.codePointAt(end))) {
+
+				if (result == null) {
+					result = new ArrayList<>();
+				}
+
+				result.add(text.substring(start, index));
+				start = end;
+				index = text.indexOf(keyword, end);
+			} else {
+				index = text.indexOf(keyword, index + 1);
+			}
+		}
+
+		if (result == null) {
+			return new String[] { text };
+		}
+
+		result.add(text.substring(start));
+
+		int size = result.size();
+
+		while (size > 0 && result.get(size - 1).isEmpty()) {
+			size--;
+		}
+
+		return result.subList(0, size).toArray(new String[0]);
+	}
+
+	private static boolean isKeywordBoundary(int codePoint) {
+		return codePoint > 0x7F || Character.getType(codePoint) == Character.UPPERCASE_LETTER;
 	}
 
 	/**
@@ -235,12 +280,12 @@ public class PartTree implements Streamable<OrPart> {
 		 */
 		OrPart(String source, Class<?> domainClass, boolean alwaysIgnoreCase) {
 
-			String[] split = split(source, "And");
+			String[] split = split(source, AND);
 
 			this.children = Arrays.stream(split)//
 					.filter(StringUtils::hasText)//
 					.map(part -> new Part(part, domainClass, alwaysIgnoreCase))//
-					.collect(Collectors.toList());
+					.collect(Collectors.toUnmodifiableList());
 		}
 
 		public Iterator<Part> iterator() {
@@ -353,7 +398,6 @@ public class PartTree implements Streamable<OrPart> {
 	private static class Predicate implements Streamable<OrPart> {
 
 		private static final Pattern ALL_IGNORE_CASE = Pattern.compile("AllIgnor(ing|e)Case");
-		private static final String ORDER_BY = "OrderBy";
 
 		private final List<OrPart> nodes;
 		private final OrderBySource orderBySource;
@@ -367,10 +411,10 @@ public class PartTree implements Streamable<OrPart> {
 				throw new IllegalArgumentException("OrderBy must not be used more than once in a method name");
 			}
 
-			this.nodes = Arrays.stream(split(parts[0], "Or")) //
+			this.nodes = Arrays.stream(split(parts[0], OR)) //
 					.filter(StringUtils::hasText) //
 					.map(part -> new OrPart(part, domainClass, alwaysIgnoreCase)) //
-					.collect(Collectors.toList());
+					.collect(Collectors.toUnmodifiableList());
 
 			this.orderBySource = parts.length == 2 ? new OrderBySource(parts[1], Optional.of(domainClass))
 					: OrderBySource.EMPTY;
@@ -397,4 +441,14 @@ public class PartTree implements Streamable<OrPart> {
 			return nodes.iterator();
 		}
 	}
+
+	private record CacheKey(String source, Class<?> domainClass) {
+	}
+
+	/**
+	 * Parsed {@link Subject} and {@link Predicate} shared by {@link PartTree} instances created for the same source and
+	 * domain type.
+	 */
+	private record ParsedTree(Subject subject, Predicate predicate) {
+	}
 }
@@ -16,6 +16,8 @@
 package org.springframework.data.repository.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.core.convert.ConversionService;
@@ -80,6 +82,23 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 		return customFindOneMethod ? super.invokeFindById(id) : (Optional<T>) repository.findById(convertId(id));
 	}
 
+	@Override
+	public Iterable<Object> invokeFindAllById(Iterable<?> ids) {
+
+		// a redeclared find-one method might apply additional constraints findAllById(…) would bypass
+		if (customFindOneMethod) {
+			return super.invokeFindAllById(ids);
+		}
+
+		List<Object> convertedIds = new ArrayList<>();
+
+		for (Object id : ids) {
+			convertedIds.add(convertId(id));
+		}
+
+		return repository.findAllById(convertedIds);
+	}
+
 	@Override
 	public <T> T invokeSave(T entity) {
 		return customSaveMethod ? super.invokeSave(entity) : repository.save(entity);
@@ -15,12 +15,20 @@
  */
 package org.springframework.data.repository.support;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.ConditionalGenericConverter;
@@ -38,7 +46,8 @@ import org.springframework.util.StringUtils;
  * {@link org.springframework.core.convert.converter.Converter} to convert arbitrary input into domain classes managed
  * by Spring Data {@link CrudRepository}s. The implementation uses a {@link ConversionService} in turn to convert the
  * source type into the domain class' id type which is then converted into a domain class object by using a
- * {@link CrudRepository}.
+ * {@link CrudRepository}. Collection and array targets of domain classes are loaded with a single
+ * {@link CrudRepository#findAllById(Iterable)} invocation retaining the order of the source identifiers.
  *
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -51,6 +60,7 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 	private final T conversionService;
 	private Lazy<Repositories> repositories = Lazy.of(Repositories.NONE);
 	private Optional<ToEntityConverter> toEntityConverter = Optional.empty();
+	private Optional<ToEntitiesConverter> toEntitiesConverter = Optional.empty();
 	private Optional<ToIdConverter> toIdConverter = Optional.empty();
 
 	/**
@@ -69,7 +79,16 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 	@NonNull
 	@Override
 	public Set<ConvertiblePair> getConvertibleTypes() {
-		return Collections.singleton(new ConvertiblePair(Object.class, Object.class));
+
+		// Collection targets are registered explicitly to take precedence over the default collection converters
+
+		return Set.of(new ConvertiblePair(Object.class, Object.class), //
+				new ConvertiblePair(String.class, Collection.class), //
+				new ConvertiblePair(String.class, Object[].class), //
+				new ConvertiblePair(Object[].class, Collection.class), //
+				new ConvertiblePair(Object[].class, Object[].class), //
+				new ConvertiblePair(Collection.class, Collection.class), //
+				new ConvertiblePair(Collection.class, Object[].class));
 	}
 
 	@Nullable
@@ -88,20 +107,31 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 	 * @return
 	 */
 	private Optional<? extends ConditionalGenericConverter> getConverter(TypeDescriptor targetType) {
+
+		if (targetType.isCollection() || targetType.isArray()) {
+
+			TypeDescriptor elementType = targetType.getElementTypeDescriptor();
+
+			if (elementType != null && repositories.get().hasRepositoryFor(elementType.getType())) {
+				return toEntitiesConverter;
+			}
+		}
+
 		return repositories.get().hasRepositoryFor(targetType.getType()) ? toEntityConverter : toIdConverter;
 	}
 
 	public void setApplicationContext(ApplicationContext context) {
 
-		this.repositories = Lazy.of(() -> {
+		this.repositories = Lazy.of(() -> initialize(new Repositories(context)));
+	}
 
-			Repositories repositories = new Repositories(context);
+	private Repositories initialize(Repositories repositories) {
 
-			this.toEntityConverter = Optional.of(new ToEntityConverter(repositories, conversionService));
-			this.toIdConverter = Optional.of(new ToIdConverter(repositories, conversionService));
+		this.toEntityConverter = Optional.of(new ToEntityConverter(repositories, conversionService));
+		this.toEntitiesConverter = Optional.of(new ToEntitiesConverter(repositories, conversionService));
+		this.toIdConverter = Optional.of(new ToIdConverter(repositories, conversionService));
 
-			return repositories;
-		});
+		return repositories;
 	}
 
 	/**
@@ -183,6 +213,134 @@ public class DomainClassConverter<T extends ConversionService & ConverterRegistr
 		}
 	}
 
+	/**
+	 * Converter to create collections and arrays of domain types from any source that can be converted into a collection
+	 * of the domain types identifier type. Entities are loaded through
+	 * {@link RepositoryInvoker#invokeFindAllById(Iterable)}, that is, with a single
+	 * {@link CrudRepository#findAllById(Iterable)} invocation if the repository is a {@link CrudRepository} and looked
+	 * up individually otherwise. Identifiers without an entity result in {@literal null} elements just like converting
+	 * each identifier individually.
+	 *
+	 * @since 3.1
+	 */
+	private static class ToEntitiesConverter implements ConditionalGenericConverter {
+
+		private final RepositoryInvokerFactory repositoryInvokerFactory;
+		private final Repositories repositories;
+		private final ConversionService conversionService;
+
+		/**
+		 * Creates a new {@link ToEntitiesConverter} for the given {@link Repositories} and {@link ConversionService}.
+		 *
+		 * @param repositories must not be {@literal null}.
+		 * @param conversionService must not be {@literal null}.
+		 */
+		public ToEntitiesConverter(Repositories repositories, ConversionService conversionService) {
+
+			this.repositoryInvokerFactory = new DefaultRepositoryInvokerFactory(repositories, conversionService);
+			this.repositories = repositories;
+			this.conversionService = conversionService;
+		}
+
+		@NonNull
+		@Override
+		public Set<ConvertiblePair> getConvertibleTypes() {
+			return Collections.singleton(new ConvertiblePair(Object.class, Object.class));
+		}
+
+		@Nullable
+		@Override
+		public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+			if (source == null) {
+				return null;
+			}
+
+			TypeDescriptor elementType = targetType.getElementTypeDescriptor();
+
+			if (elementType == null) {
+				return null;
+			}
+
+			Class<?> domainType = elementType.getType();
+			Collection<?> ids = (Collection<?>) conversionService.convert(source, sourceType,
+					getIdCollectionType(domainType));
+			List<Object> entities = ids == null ? List.of() : findAllById(domainType, ids);
+
+			if (targetType.isArray()) {
+
+				Object result = Array.newInstance(domainType, entities.size());
+
+				for (int i = 0; i < entities.size(); i++) {
+					Array.set(result, i, entities.get(i));
+				}
+
+				return result;
+			}
+
+			Collection<Object> result = CollectionFactory.createCollection(targetType.getType(), domainType,
+					entities.size());
+			result.addAll(entities);
+
+			return result;
+		}
+
+		@Override
+		public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+
+			if (sourceType.isAssignableTo(targetType)) {
+				return false;
+			}
+
+			TypeDescriptor elementType = targetType.getElementTypeDescriptor();
+
+			if (elementType == null || !repositories.hasRepositoryFor(elementType.getType())) {
+				return false;
+			}
+
+			TypeDescriptor sourceElementType = sourceType.getElementTypeDescriptor();
+
+			if (sourceElementType != null && sourceElementType.isAssignableTo(elementType)) {
+				return false;
+			}
+
+			return conversionService.canConvert(sourceType, getIdCollectionType(elementType.getType()));
+		}
+
+		private TypeDescriptor getIdCollectionType(Class<?> domainType) {
+
+			RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+
+			return TypeDescriptor.collection(List.class, information.getIdTypeInformation().toTypeDescriptor());
+		}
+
+		private List<Object> findAllById(Class<?> domainType, Collection<?> ids) {
+
+			Set<Object> idsToLoad = new LinkedHashSet<>(ids);
+			idsToLoad.remove(null);
+
+			Map<Object, Object> entitiesById = new HashMap<>(idsToLoad.size());
+
+			if (!idsToLoad.isEmpty()) {
+
+				RepositoryInvoker invoker = repositoryInvokerFactory.getInvokerFor(domainType);
+				EntityInformation<Object, ?> entityInformation = repositories.getEntityInformationFor(domainType);
+
+				for (Object entity : invoker.invokeFindAllById(idsToLoad)) {
+					entitiesById.put(entityInformation.getId(entity), entity);
+				}
+			}
+
+			List<Object> result = new ArrayList<>(ids.size());
+
+			for (Object id : ids) {
+				result.add(id == null ? null : entitiesById.get(id));
+			}
+
+			return result;
+		}
+	}
+
 	/**
 	 * Converter to turn domain types into their identifiers or any transitively convertible type.
 	 *
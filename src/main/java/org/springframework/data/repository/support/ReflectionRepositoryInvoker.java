@@ -15,9 +15,13 @@
  */
 package org.springframework.data.repository.support;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.core.MethodParameter;
@@ -34,12 +38,15 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
- * Base {@link RepositoryInvoker} using reflection to invoke methods on Spring Data Repositories.
+ * Base {@link RepositoryInvoker} using reflection to invoke methods on Spring Data Repositories. Invoked methods are
+ * prepared once into an {@link InvocationPlan} holding a {@link MethodHandle} bound to the repository and the resolved
+ * parameter names and target {@link TypeDescriptor}s used to convert request parameters.
  *
  * @author Oliver Gierke
  * @author Alessandro Nistico
@@ -55,6 +62,7 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	private final CrudMethods methods;
 	private final TypeDescriptor idTypeDescriptor;
 	private final ConversionService conversionService;
+	private final Map<Method, InvocationPlan> plans = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link ReflectionRepositoryInvoker} for the given repository, {@link RepositoryMetadata} and
@@ -150,27 +158,27 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 		Assert.notNull(pageable, "Pageable must not be null");
 		Assert.notNull(sort, "Sort must not be null");
 
-		ReflectionUtils.makeAccessible(method);
+		InvocationPlan plan = getInvocationPlan(method);
 
-		return returnAsOptional(invoke(method, prepareParameters(method, parameters, pageable, sort)));
+		return returnAsOptional(plan.invoke(prepareParameters(plan, parameters, pageable, sort)));
 	}
 
-	private Object[] prepareParameters(Method method, MultiValueMap<String, ?> rawParameters, Pageable pageable,
+	private Object[] prepareParameters(InvocationPlan plan, MultiValueMap<String, ?> rawParameters, Pageable pageable,
 			Sort sort) {
 
-		List<MethodParameter> parameters = new MethodParameters(method, Optional.of(PARAM_ANNOTATION)).getParameters();
+		ParameterPlan[] parameters = plan.parameters();
 
-		if (parameters.isEmpty()) {
+		if (parameters.length == 0) {
 			return new Object[0];
 		}
 
-		Object[] result = new Object[parameters.size()];
+		Object[] result = new Object[parameters.length];
 		Sort sortToUse = pageable.getSortOr(sort);
 
 		for (int i = 0; i < result.length; i++) {
 
-			MethodParameter param = parameters.get(i);
-			Class<?> targetType = param.getParameterType();
+			ParameterPlan param = parameters[i];
+			Class<?> targetType = param.type();
 
 			if (Pageable.class.isAssignableFrom(targetType)) {
 				result[i] = pageable;
@@ -178,10 +186,11 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 				result[i] = sortToUse;
 			} else {
 
-				String parameterName = param.getParameterName();
+				String parameterName = param.name();
 
 				if (!StringUtils.hasText(parameterName)) {
-					throw new IllegalArgumentException(String.format(NAME_NOT_FOUND, ClassUtils.getQualifiedMethodName(method)));
+					throw new IllegalArgumentException(
+							String.format(NAME_NOT_FOUND, ClassUtils.getQualifiedMethodName(plan.method())));
 				}
 
 				Object value = unwrapSingleElement(rawParameters.get(parameterName));
@@ -194,19 +203,30 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	}
 
 	@Nullable
-	private Object convert(@Nullable Object value, MethodParameter parameter) {
+	private Object convert(@Nullable Object value, ParameterPlan parameter) {
 
 		if (value == null) {
 			return value;
 		}
 
 		try {
-			return conversionService.convert(value, TypeDescriptor.forObject(value), new TypeDescriptor(parameter));
+			return conversionService.convert(value, TypeDescriptor.forObject(value), parameter.descriptor());
 		} catch (ConversionException o_O) {
-			throw new QueryMethodParameterConversionException(value, parameter, o_O);
+			throw new QueryMethodParameterConversionException(value, parameter.parameter(), o_O);
 		}
 	}
 
+	private InvocationPlan getInvocationPlan(Method method) {
+
+		InvocationPlan plan = plans.get(method);
+
+		if (plan == null) {
+			plan = plans.computeIfAbsent(method, it -> InvocationPlan.of(it, repository));
+		}
+
+		return plan;
+	}
+
 	/**
 	 * Invokes the given method with the given arguments on the backing repository.
 	 *
@@ -217,7 +237,7 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <T> T invoke(Method method, Object... arguments) {
-		return (T) ReflectionUtils.invokeMethod(method, repository, arguments);
+		return (T) getInvocationPlan(method).invoke(arguments);
 	}
 
 	private <T> T invokeForNonNullResult(Method method, Object... arguments) {
@@ -306,4 +326,75 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	private static Object unwrapSingleElement(@Nullable List<? extends Object> source) {
 		return source == null ? null : source.size() == 1 ? source.get(0) : source;
 	}
+
+	/**
+	 * Prepared invocation of a repository method through a {@link MethodHandle} bound to the repository. Falls back to
+	 * reflective invocation if the method is not accessible through a {@link MethodHandle}.
+	 *
+	 * @param method the invoked method.
+	 * @param handle the spreading {@link MethodHandle} accepting the arguments as {@code Object[]}, can be
+	 *          {@literal null}.
+	 * @param repository the repository to invoke the method on.
+	 * @param parameters the prepared method parameters.
+	 * @since 3.1
+	 */
+	record InvocationPlan(Method method, @Nullable MethodHandle handle, Object repository, ParameterPlan[] parameters) {
+
+		private static final MethodType SPREADING_INVOKER = MethodType.methodType(Object.class, Object[].class);
+
+		static InvocationPlan of(Method method, Object repository) {
+
+			ReflectionUtils.makeAccessible(method);
+
+			List<MethodParameter> parameters = new MethodParameters(method, Optional.of(PARAM_ANNOTATION)).getParameters();
+
+			return new InvocationPlan(method, createHandle(method, repository), repository,
+					parameters.stream().map(ParameterPlan::of).toArray(ParameterPlan[]::new));
+		}
+
+		@Nullable
+		private static MethodHandle createHandle(Method method, Object repository) {
+
+			try {
+				return MethodHandles.lookup().unreflect(method) //
+						.bindTo(repository) //
+						.asSpreader(Object[].class, method.getParameterCount()) //
+						.asType(SPREADING_INVOKER);
+			} catch (IllegalAccessException | IllegalArgumentException o_O) {
+				return null;
+			}
+		}
+
+		@Nullable
+		Object invoke(Object[] arguments) {
+
+			if (handle == null) {
+				return ReflectionUtils.invokeMethod(method, repository, arguments);
+			}
+
+			try {
+				return handle.invokeExact(arguments);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * A method parameter along with its name and the {@link TypeDescriptor} to convert request parameters into.
+	 *
+	 * @param parameter the underlying {@link MethodParameter}.
+	 * @param name the parameter name, can be {@literal null} if it cannot be detected.
+	 * @param type the parameter type.
+	 * @param descriptor the {@link TypeDescriptor} of the parameter.
+	 * @since 3.1
+	 */
+	record ParameterPlan(MethodParameter parameter, @Nullable String name, Class<?> type, TypeDescriptor descriptor) {
+
+		static ParameterPlan of(MethodParameter parameter) {
+			return new ParameterPlan(parameter, parameter.getParameterName(), parameter.getParameterType(),
+					new TypeDescriptor(parameter));
+		}
+	}
 }
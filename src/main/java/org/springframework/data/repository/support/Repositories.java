@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryUtils;
@@ -37,12 +38,15 @@ import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.util.ProxyUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
-import org.springframework.util.ConcurrentLruCache;
 
 /**
- * Wrapper class to access repository instances obtained from a {@link ListableBeanFactory}.
+ * Wrapper class to access repository instances obtained from a {@link ListableBeanFactory}. Repository metadata is
+ * resolved once upon creation. Lookups by domain type are resolved once per type, including proxies and sub-types of
+ * repository managed types, and cached per {@link Repositories} instance so that subsequent lookups do not require any
+ * locking.
  *
  * @author Oliver Gierke
  * @author Thomas Darimont
@@ -61,8 +65,8 @@ public class Repositories implements Iterable<Class<?>> {
 	private final Optional<BeanFactory> beanFactory;
 	private final Map<Class<?>, String> repositoryBeanNames;
 	private final Map<Class<?>, RepositoryFactoryInformation<Object, Object>> repositoryFactoryInfos;
-	private final ConcurrentLruCache<Class<?>, Class<?>> domainTypeMapping = new ConcurrentLruCache<>(64,
-			this::getRepositoryDomainTypeFor);
+	private final Map<Class<?>, RepositoryInformation> repositoryInformationByInterface;
+	private final Map<Class<?>, DomainTypeLookup> lookups = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor to create the {@link #NONE} instance.
@@ -72,6 +76,7 @@ public class Repositories implements Iterable<Class<?>> {
 		this.beanFactory = Optional.empty();
 		this.repositoryBeanNames = Collections.emptyMap();
 		this.repositoryFactoryInfos = Collections.emptyMap();
+		this.repositoryInformationByInterface = Collections.emptyMap();
 	}
 
 	/**
@@ -89,6 +94,15 @@ public class Repositories implements Iterable<Class<?>> {
 		this.repositoryBeanNames = new HashMap<>();
 
 		populateRepositoryFactoryInformation(factory);
+
+		this.repositoryInformationByInterface = new HashMap<>(repositoryFactoryInfos.size());
+
+		for (RepositoryFactoryInformation<Object, Object> information : repositoryFactoryInfos.values()) {
+
+			RepositoryInformation repositoryInformation = information.getRepositoryInformation();
+			repositoryInformationByInterface.putIfAbsent(repositoryInformation.getRepositoryInterface(),
+					repositoryInformation);
+		}
 	}
 
 	private void populateRepositoryFactoryInformation(ListableBeanFactory factory) {
@@ -100,7 +114,7 @@ public class Repositories implements Iterable<Class<?>> {
 	}
 
 	@SuppressWarnings("rawtypes")
-	private synchronized void cacheRepositoryFactory(String name) {
+	private void cacheRepositoryFactory(String name) {
 
 		RepositoryFactoryInformation repositoryFactoryInformation = beanFactory.get().getBean(name,
 				RepositoryFactoryInformation.class);
@@ -129,9 +143,7 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		Class<?> userClass = domainTypeMapping.get(ProxyUtils.getUserClass(domainClass));
-
-		return repositoryFactoryInfos.containsKey(userClass);
+		return lookup(domainClass).managed();
 	}
 
 	/**
@@ -145,8 +157,7 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		Class<?> userClass = domainTypeMapping.get(ProxyUtils.getUserClass(domainClass));
-		Optional<String> repositoryBeanName = Optional.ofNullable(repositoryBeanNames.get(userClass));
+		Optional<String> repositoryBeanName = Optional.ofNullable(lookup(domainClass).beanName());
 
 		return beanFactory.flatMap(it -> repositoryBeanName.map(it::getBean));
 	}
@@ -164,18 +175,7 @@ public class Repositories implements Iterable<Class<?>> {
 
 		Assert.notNull(domainClass, DOMAIN_TYPE_MUST_NOT_BE_NULL);
 
-		Class<?> userType = domainTypeMapping.get(ProxyUtils.getUserClass(domainClass));
-		RepositoryFactoryInformation<Object, Object> repositoryInfo = repositoryFactoryInfos.get(userType);
-
-		if (repositoryInfo != null) {
-			return repositoryInfo;
-		}
-
-		if (!userType.equals(Object.class)) {
-			return getRepositoryFactoryInfoFor(userType.getSuperclass());
-		}
-
-		return EMPTY_REPOSITORY_FACTORY_INFO;
+		return lookup(domainClass).information();
 	}
 
 	/**
@@ -236,11 +236,7 @@ public class Repositories implements Iterable<Class<?>> {
 	 * @since 1.12
 	 */
 	public Optional<RepositoryInformation> getRepositoryInformation(Class<?> repositoryInterface) {
-
-		return repositoryFactoryInfos.values().stream()//
-				.map(RepositoryFactoryInformation::getRepositoryInformation)//
-				.filter(information -> information.getRepositoryInterface().equals(repositoryInterface))//
-				.findFirst();
+		return Optional.ofNullable(repositoryInformationByInterface.get(repositoryInterface));
 	}
 
 	/**
@@ -274,7 +270,28 @@ public class Repositories implements Iterable<Class<?>> {
 	}
 
 	public Iterator<Class<?>> iterator() {
-		return repositoryFactoryInfos.keySet().iterator();
+
+		Iterator<Class<?>> iterator = repositoryFactoryInfos.keySet().iterator();
+
+		return new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Class<?> next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+
+				iterator.remove();
+				lookups.clear();
+			}
+		};
 	}
 
 	/**
@@ -316,6 +333,57 @@ public class Repositories implements Iterable<Class<?>> {
 		this.repositoryBeanNames.put(type, name);
 	}
 
+	/**
+	 * Returns the repository lookup for the given type. Lookups are not cached if no repositories are registered to not
+	 * retain arbitrary types in e.g. {@link #NONE}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private DomainTypeLookup lookup(Class<?> type) {
+
+		if (repositoryFactoryInfos.isEmpty()) {
+			return createLookup(type);
+		}
+
+		DomainTypeLookup lookup = lookups.get(type);
+
+		if (lookup == null) {
+			lookup = lookups.computeIfAbsent(type, this::createLookup);
+		}
+
+		return lookup;
+	}
+
+	/**
+	 * Resolves the repository lookup for the given type, unwrapping it to the actual user class if necessary.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private DomainTypeLookup createLookup(Class<?> type) {
+
+		Class<?> domainType = getRepositoryDomainTypeFor(ProxyUtils.getUserClass(type));
+
+		return new DomainTypeLookup(repositoryFactoryInfos.containsKey(domainType), repositoryBeanNames.get(domainType),
+				resolveRepositoryFactoryInfo(domainType));
+	}
+
+	private RepositoryFactoryInformation<Object, Object> resolveRepositoryFactoryInfo(Class<?> domainType) {
+
+		for (Class<?> candidate = domainType; candidate != null; candidate = candidate.getSuperclass()) {
+
+			RepositoryFactoryInformation<Object, Object> repositoryInfo = repositoryFactoryInfos
+					.get(getRepositoryDomainTypeFor(candidate));
+
+			if (repositoryInfo != null) {
+				return repositoryInfo;
+			}
+		}
+
+		return EMPTY_REPOSITORY_FACTORY_INFO;
+	}
+
 	/**
 	 * Returns the repository domain type for which to look up the repository. The input can either be a repository
 	 * managed type directly. Or it can be a sub-type of a repository managed one, in which case we check the domain types
@@ -343,6 +411,18 @@ public class Repositories implements Iterable<Class<?>> {
 		return domainType;
 	}
 
+	/**
+	 * Resolved repository lookup for a domain type.
+	 *
+	 * @param managed whether a repository is registered for the domain type.
+	 * @param beanName the name of the repository bean, can be {@literal null}.
+	 * @param information the {@link RepositoryFactoryInformation} of the repository managing the domain type or one of
+	 *          its super types.
+	 * @since 3.1
+	 */
+	private record DomainTypeLookup(boolean managed, @Nullable String beanName,
+			RepositoryFactoryInformation<Object, Object> information) {}
+
 	/**
 	 * Null-object to avoid nasty {@literal null} checks in cache lookups.
 	 *
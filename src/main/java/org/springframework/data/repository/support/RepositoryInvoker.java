@@ -16,6 +16,8 @@
 package org.springframework.data.repository.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
@@ -51,6 +53,27 @@ public interface RepositoryInvoker extends RepositoryInvocationInformation {
 	 */
 	<T> Optional<T> invokeFindById(Object id);
 
+	/**
+	 * Invokes the method equivalent to {@link org.springframework.data.repository.CrudRepository#findAllById(Iterable)}.
+	 * The default implementation looks up each entity individually using {@link #invokeFindById(Object)}. The given ids
+	 * are assumed to be of a type convertible into the actual identifier type of the backing repository.
+	 *
+	 * @param ids must not be {@literal null} nor contain {@literal null} elements.
+	 * @return the entities found for the given ids, in no particular order.
+	 * @throws IllegalStateException if the repository does not expose a find-one-method.
+	 * @since 3.1
+	 */
+	default Iterable<Object> invokeFindAllById(Iterable<?> ids) {
+
+		List<Object> result = new ArrayList<>();
+
+		for (Object id : ids) {
+			this.<Object> invokeFindById(id).ifPresent(result::add);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Invokes the find-all method of the underlying repository using the method taking a {@link Pageable} as parameter if
 	 * available (i.e. the equivalent to
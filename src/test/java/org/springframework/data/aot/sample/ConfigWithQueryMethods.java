@@ -45,6 +45,10 @@ public class ConfigWithQueryMethods {
 
 		ProjectionInterface findProjectionBy();
 
+		DtoProjection findDtoProjectionBy();
+
+		Page<Person> findByAddress(AddressCriteria criteria);
+
 	}
 
 	public static class Person {
@@ -59,6 +63,14 @@ public class ConfigWithQueryMethods {
 
 	public interface ProjectionInterface {}
 
+	public static class DtoProjection {
+		String street;
+	}
+
+	public static class AddressCriteria {
+		String street;
+	}
+
 	@Nullable
 	@QueryAnnotation
 	@Retention(RetentionPolicy.RUNTIME)
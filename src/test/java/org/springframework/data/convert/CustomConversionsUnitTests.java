@@ -318,6 +318,32 @@ class CustomConversionsUnitTests {
 		verifyNoInteractions(mockProperty);
 	}
 
+	@Test
+	void considersStoreSimpleTypesWhenReusingConverterMetadata() {
+
+		var registry = mock(ConverterRegistry.class);
+
+		new CustomConversions(StoreConversions.NONE, Collections.emptyList());
+		new CustomConversions(StoreConversions.of(DATE_EXCLUDING_SIMPLE_TYPE_HOLDER), Collections.emptyList())
+				.registerConvertersIn(registry);
+
+		verify(registry, never()).addConverter(any(Jsr310Converters.LocalDateTimeToInstantConverter.class));
+
+		var conversions = new CustomConversions(StoreConversions.NONE, Collections.emptyList());
+
+		assertThat(conversions.hasCustomWriteTarget(java.time.LocalDateTime.class, Date.class)).isTrue();
+	}
+
+	@Test
+	void rejectsConverterWithUnresolvableTypeArguments() {
+
+		Converter<String, Format> converter = source -> new Format();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new CustomConversions(StoreConversions.NONE, Collections.singletonList(converter)))
+				.withMessageContaining("Couldn't resolve type arguments");
+	}
+
 	private static Class<?> createProxyTypeFor(Class<?> type) {
 
 		var factory = new ProxyFactory();
@@ -16,11 +16,13 @@
 package org.springframework.data.convert;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -85,6 +87,36 @@ class DefaultTypeMapperUnitTests {
 		assertThat(this.typeMapper.getAliasFor(STRING_TYPE_INFO)).isEqualTo(alias);
 	}
 
+	@Test
+	void cachesAliasForWrites() {
+
+		var alias = Alias.of("alias");
+		doReturn(alias).when(mapper).createAliasFor(STRING_TYPE_INFO);
+
+		Map<String, String> sink = new HashMap<>();
+
+		typeMapper.writeType(String.class, sink);
+		typeMapper.writeType(String.class, sink);
+		typeMapper.writeType(STRING_TYPE_INFO, sink);
+
+		verify(mapper, times(1)).createAliasFor(STRING_TYPE_INFO);
+		verify(accessor, times(3)).writeTypeTo(sink, "alias");
+	}
+
+	@Test
+	void skipsWritingTypeWithoutAlias() {
+
+		doReturn(Alias.NONE).when(mapper).createAliasFor(STRING_TYPE_INFO);
+
+		Map<String, String> sink = new HashMap<>();
+
+		typeMapper.writeType(String.class, sink);
+		typeMapper.writeType(String.class, sink);
+
+		verify(mapper, times(1)).createAliasFor(STRING_TYPE_INFO);
+		verify(accessor, never()).writeTypeTo(any(), any());
+	}
+
 	@Test // DATACMNS-783
 	void specializesRawSourceTypeUsingGenericContext() {
 
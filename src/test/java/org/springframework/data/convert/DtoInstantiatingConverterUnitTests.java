@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mapping.context.SampleMappingContext;
+import org.springframework.data.mapping.model.EntityInstantiators;
+
+/**
+ * Unit tests for {@link DtoInstantiatingConverter}.
+ */
+class DtoInstantiatingConverterUnitTests {
+
+	SampleMappingContext context = new SampleMappingContext();
+	EntityInstantiators instantiators = new EntityInstantiators();
+
+	@Test
+	void createsDtoFromConstructorArgumentsAndProperties() {
+
+		var converter = new DtoInstantiatingConverter(PersonDto.class, context, instantiators);
+
+		var dto = (PersonDto) converter.convert(new Person("Walter", "White", 50));
+
+		assertThat(dto.firstname).isEqualTo("Walter");
+		assertThat(dto.age).isEqualTo(50);
+	}
+
+	@Test
+	void reusesMappingForSubsequentConversions() {
+
+		var context = spy(new SampleMappingContext());
+		var converter = new DtoInstantiatingConverter(PersonDto.class, context, instantiators);
+
+		converter.convert(new Person("Walter", "White", 50));
+		var dto = (PersonDto) converter.convert(new Person("Skyler", "White", 40));
+
+		assertThat(dto.firstname).isEqualTo("Skyler");
+		assertThat(dto.age).isEqualTo(40);
+
+		verify(context, times(1)).getRequiredPersistentEntity(Person.class);
+		verify(context, times(2)).getRequiredPersistentEntity(PersonDto.class);
+	}
+
+	@Test
+	void mapsDifferentSourceTypesToSameDto() {
+
+		var converter = new DtoInstantiatingConverter(PersonDto.class, context, instantiators);
+
+		converter.convert(new Person("Walter", "White", 50));
+		var dto = (PersonDto) converter.convert(new Employee("Jesse", 25, "Lab"));
+
+		assertThat(dto.firstname).isEqualTo("Jesse");
+		assertThat(dto.age).isEqualTo(25);
+	}
+
+	@Test
+	void returnsSourceForInterfaceProjection() {
+
+		var converter = new DtoInstantiatingConverter(Named.class, context, instantiators);
+		var source = new Person("Walter", "White", 50);
+
+		assertThat(converter.convert(source)).isSameAs(source);
+	}
+
+	@Test
+	void rejectsSourceWithoutMatchingProperty() {
+
+		var converter = new DtoInstantiatingConverter(PersonDto.class, context, instantiators);
+
+		assertThatIllegalStateException().isThrownBy(() -> converter.convert(new Unrelated("Walter")));
+	}
+
+	interface Named {
+		String getFirstname();
+	}
+
+	static class Person {
+
+		final String firstname;
+		final String lastname;
+		final int age;
+
+		Person(String firstname, String lastname, int age) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+	}
+
+	static class Employee {
+
+		final String firstname;
+		final int age;
+		final String department;
+
+		Employee(String firstname, int age, String department) {
+			this.firstname = firstname;
+			this.age = age;
+			this.department = department;
+		}
+	}
+
+	static class Unrelated {
+
+		final String name;
+
+		Unrelated(String name) {
+			this.name = name;
+		}
+	}
+
+	static class PersonDto {
+
+		final String firstname;
+		int age;
+
+		PersonDto(String firstname) {
+			this.firstname = firstname;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.ConversionMetrics.ConversionStatistics;
+import org.springframework.data.convert.CustomConversions.StoreConversions;
+
+/**
+ * Unit tests for {@link InstrumentingConversionService} and {@link ConversionMetrics}.
+ */
+class InstrumentingConversionServiceUnitTests {
+
+	ConversionMetrics metrics = new ConversionMetrics(1);
+	InstrumentingConversionService conversionService;
+
+	@BeforeEach
+	void setUp() {
+
+		var conversions = new CustomConversions(StoreConversions.NONE,
+				Collections.singletonList(LocaleToStringConverter.INSTANCE));
+
+		var delegate = new DefaultConversionService();
+		conversions.registerConvertersIn(delegate);
+
+		conversionService = new InstrumentingConversionService(delegate, conversions, metrics);
+	}
+
+	@Test
+	void countsCustomConversionsPerPair() {
+
+		assertThat(conversionService.convert(Locale.GERMANY, String.class)).isEqualTo("de-DE");
+		conversionService.convert(Locale.US, String.class);
+
+		ConversionStatistics statistics = metrics.getStatistics().get(new ConvertiblePair(Locale.class, String.class));
+
+		assertThat(statistics.invocations()).isEqualTo(2);
+		assertThat(statistics.hasFallbacks()).isFalse();
+		assertThat(statistics.samples()).isEqualTo(2);
+	}
+
+	@Test
+	void reportsFallbackToGenericConversionService() {
+
+		assertThat(conversionService.convert("1.5", BigDecimal.class)).isEqualTo(new BigDecimal("1.5"));
+
+		ConversionStatistics statistics = metrics.getStatistics().get(new ConvertiblePair(String.class, BigDecimal.class));
+
+		assertThat(statistics.invocations()).isEqualTo(1);
+		assertThat(statistics.fallbacks()).isEqualTo(1);
+	}
+
+	@Test
+	void reportsConversionsUsingTypeDescriptors() {
+
+		conversionService.convert(Locale.GERMANY, TypeDescriptor.valueOf(Locale.class),
+				TypeDescriptor.valueOf(String.class));
+
+		assertThat(metrics.getStatistics()).containsKey(new ConvertiblePair(Locale.class, String.class));
+	}
+
+	@Test
+	void doesNotReportNullConversions() {
+
+		assertThat(conversionService.convert(null, String.class)).isNull();
+		assertThat(metrics.getStatistics()).isEmpty();
+	}
+
+	@Test
+	void ordersStatisticsByInvocationCount() {
+
+		conversionService.convert("1", BigDecimal.class);
+		conversionService.convert(Locale.GERMANY, String.class);
+		conversionService.convert(Locale.US, String.class);
+
+		assertThat(metrics.getStatistics().keySet()).containsExactly(new ConvertiblePair(Locale.class, String.class),
+				new ConvertiblePair(String.class, BigDecimal.class));
+	}
+
+	@Test
+	void skipsMeasuringIfNotSampled() {
+
+		var listener = new ConversionMetrics(Integer.MAX_VALUE);
+		var conversions = new CustomConversions(StoreConversions.NONE, Collections.emptyList());
+
+		new InstrumentingConversionService(new DefaultConversionService(), conversions, listener).convert("1",
+				Integer.class);
+
+		ConversionStatistics statistics = listener.getStatistics().get(new ConvertiblePair(String.class, Integer.class));
+
+		assertThat(statistics.invocations()).isEqualTo(1);
+		assertThat(statistics.samples()).isZero();
+	}
+
+	@Test
+	void rejectsInvalidSampleInterval() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new ConversionMetrics(0));
+	}
+
+	@WritingConverter
+	enum LocaleToStringConverter implements Converter<Locale, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(Locale source) {
+			return source.toLanguageTag();
+		}
+	}
+}
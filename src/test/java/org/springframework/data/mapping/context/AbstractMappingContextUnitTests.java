@@ -43,6 +43,8 @@ import org.springframework.aop.SpringProxy;
 import org.springframework.aop.framework.Advised;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentEntity;
@@ -99,6 +101,23 @@ class AbstractMappingContextUnitTests {
 		verify(applicationContext, times(1)).publishEvent(any(ApplicationEvent.class));
 	}
 
+	@Test
+	void recordsStartupStepForEntityCreation() {
+
+		var startup = mock(ApplicationStartup.class);
+		var step = mock(StartupStep.class);
+
+		when(startup.start(anyString())).thenReturn(step);
+		when(step.tag(anyString(), anyString())).thenReturn(step);
+
+		context.setApplicationStartup(startup);
+		context.getPersistentEntity(Person.class);
+
+		verify(startup, atLeastOnce()).start("spring.data.mapping.entity");
+		verify(step).tag("type", Person.class.getName());
+		verify(step, atLeastOnce()).end();
+	}
+
 	@Test // DATACMNS-214
 	void returnsNullPersistentEntityForSimpleTypes() {
 
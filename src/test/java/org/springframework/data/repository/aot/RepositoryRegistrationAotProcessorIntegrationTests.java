@@ -250,6 +250,21 @@ public class RepositoryRegistrationAotProcessorIntegrationTests {
 				.codeContributionSatisfies(contribution -> contribution.contributesReflectionFor(ProjectionInterface.class));
 	}
 
+	@Test
+	void contributesDtoProjectionsAndParameterTypesFromQueryMethods() {
+
+		RepositoryRegistrationAotContribution repositoryBeanContribution = computeAotConfiguration(
+				ConfigWithQueryMethods.class).forRepository(ConfigWithQueryMethods.CustomerRepositoryWithQueryMethods.class);
+
+		assertThatContribution(repositoryBeanContribution) //
+				.codeContributionSatisfies(contribution -> {
+
+					contribution.contributesReflectionFor(ConfigWithQueryMethods.DtoProjection.class);
+					contribution.contributesReflectionFor(ConfigWithQueryMethods.AddressCriteria.class);
+					contribution.doesNotContributeJdkProxyFor(ConfigWithQueryMethods.DtoProjection.class);
+				});
+	}
+
 	@Test // GH-2593
 	void contributesProxiesForPotentialProjections() {
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link BackgroundRepositoryInitializer}.
+ */
+class BackgroundRepositoryInitializerUnitTests {
+
+	DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+	BackgroundRepositoryInitializer initializer = new BackgroundRepositoryInitializer();
+
+	@BeforeEach
+	void setUp() {
+		initializer.setBeanFactory(beanFactory);
+	}
+
+	@Test
+	void awaitsInitializationOnContextRefresh() throws Exception {
+
+		var initialized = new AtomicBoolean();
+
+		register("personRepository", () -> {
+
+			Thread.sleep(100);
+			initialized.set(true);
+
+			return new Object();
+		});
+
+		initializer.afterSingletonsInstantiated();
+		initializer.onApplicationEvent(refreshed());
+
+		assertThat(initialized).isTrue();
+		assertThat(getExecutor()).isNull();
+	}
+
+	@Test
+	void reportsFailuresInRegistrationOrder() throws Exception {
+
+		register("firstRepository", () -> {
+			throw new IllegalStateException("first");
+		});
+		register("personRepository", Object::new);
+		register("secondRepository", () -> {
+			throw new IllegalStateException("second");
+		});
+
+		initializer.afterSingletonsInstantiated();
+
+		assertThatExceptionOfType(BeanCreationException.class) //
+				.isThrownBy(() -> initializer.onApplicationEvent(refreshed())) //
+				.satisfies(it -> {
+
+					assertThat(it.getBeanName()).isEqualTo("firstRepository");
+					assertThat(it.getCause()).hasMessage("first");
+					assertThat(it.getSuppressed()).hasSize(1);
+					assertThat(it.getSuppressed()[0]).isInstanceOfSatisfying(BeanCreationException.class, suppressed -> {
+
+						assertThat(suppressed.getBeanName()).isEqualTo("secondRepository");
+						assertThat(suppressed.getCause()).hasMessage("second");
+					});
+				});
+
+		assertThat(getExecutor()).isNull();
+	}
+
+	@Test
+	void cancelsPendingInitializationsAndShutsDownExecutorOnDestroy() throws Exception {
+
+		var started = new CountDownLatch(1);
+		var interrupted = new CountDownLatch(1);
+
+		register("blockingRepository", () -> {
+
+			started.countDown();
+
+			try {
+				new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException o_O) {
+				interrupted.countDown();
+			}
+
+			return new Object();
+		});
+		register("pendingRepository", Object::new);
+
+		initializer.afterSingletonsInstantiated();
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		var executor = getExecutor();
+		var initializations = new ArrayList<>(getInitializations().values());
+
+		// refresh failed, so the context gets closed without a ContextRefreshedEvent
+		initializer.destroy();
+
+		assertThat(initializations).allMatch(CompletableFuture::isCancelled);
+		assertThat(executor.isShutdown()).isTrue();
+		assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(getExecutor()).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void register(String beanName, Creation creation) throws Exception {
+
+		FactoryBean<Object> factoryBean = mock(FactoryBean.class,
+				withSettings().extraInterfaces(RepositoryFactoryInformation.class));
+		when(factoryBean.getObject()).then(invocation -> creation.create());
+
+		beanFactory.registerSingleton(beanName, factoryBean);
+	}
+
+	private ExecutorService getExecutor() {
+		return (ExecutorService) ReflectionTestUtils.getField(initializer, "executor");
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, CompletableFuture<?>> getInitializations() {
+		return (Map<String, CompletableFuture<?>>) ReflectionTestUtils.getField(initializer, "initializations");
+	}
+
+	private static ContextRefreshedEvent refreshed() {
+		return new ContextRefreshedEvent(mock(ApplicationContext.class));
+	}
+
+	interface Creation {
+		Object create() throws Exception;
+	}
+}
@@ -95,6 +95,15 @@ class RepositoryConfigurationDelegateUnitTests {
 
 	}
 
+	@Test
+	void registersBackgroundRepositoryInitializer() {
+
+		var beanFactory = assertLazyRepositoryBeanSetup(BackgroundConfig.class);
+
+		assertThat(beanFactory.getBeanNamesForType(BackgroundRepositoryInitializer.class)).hasSize(1);
+		assertThat(beanFactory.getBean(AddressRepository.class)).isNotNull();
+	}
+
 	@Test // DATACMNS-1832
 	void writesRepositoryScanningMetrics() {
 
@@ -250,6 +259,12 @@ class RepositoryConfigurationDelegateUnitTests {
 			bootstrapMode = BootstrapMode.DEFERRED)
 	static class DeferredConfig {}
 
+	@ComponentScan(basePackageClasses = AddressRepository.class)
+	@EnableRepositories(basePackageClasses = AddressRepository.class,
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = AddressRepository.class),
+			bootstrapMode = BootstrapMode.BACKGROUND)
+	static class BackgroundConfig {}
+
 	@EnableRepositories(basePackageClasses = MyOtherRepository.class,
 			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MyOtherRepository.class),
 			excludeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = MyOtherRepositoryImpl.class))
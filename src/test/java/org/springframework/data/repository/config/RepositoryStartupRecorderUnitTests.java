@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Unit tests for {@link RepositoryStartupRecorder}.
+ */
+class RepositoryStartupRecorderUnitTests {
+
+	RepositoryStartupRecorder recorder = new RepositoryStartupRecorder();
+
+	@Test
+	void attributesNestedStepsToEnclosingRepository() throws Exception {
+
+		var init = recorder.start("spring.data.repository.init").tag("repository", "com.acme.PersonRepository");
+		var entity = recorder.start("spring.data.mapping.entity").tag("type", "com.acme.Person");
+		Thread.sleep(10);
+		entity.end();
+		init.end();
+
+		var report = recorder.getReport();
+
+		assertThat(report.getRepositories()).containsOnlyKeys("com.acme.PersonRepository");
+		assertThat(report.getRepositories().get("com.acme.PersonRepository")) //
+				.containsOnlyKeys("spring.data.repository.init", "spring.data.mapping.entity");
+		assertThat(report.getRepositories().get("com.acme.PersonRepository").get("spring.data.mapping.entity"))
+				.isGreaterThanOrEqualTo(Duration.ofMillis(10));
+		assertThat(report.getRepositories().get("com.acme.PersonRepository").get("spring.data.repository.init"))
+				.isLessThan(Duration.ofMillis(10));
+		assertThat(report.getTotal("com.acme.PersonRepository")).isGreaterThanOrEqualTo(Duration.ofMillis(10));
+		assertThat(report.toString()).contains("com.acme.PersonRepository", "spring.data.mapping.entity");
+	}
+
+	@Test
+	void reportsScanningPerModuleAndSelfTimes() {
+
+		var scanning = recorder.start("spring.data.repository.scanning").tag("dataModule", "Sample");
+		recorder.start("spring.data.repository.fragments").tag("repository", "com.acme.PersonRepository").end();
+		scanning.end();
+
+		recorder.start("spring.data.repository.query").tag("repository", "com.acme.PersonRepository").end();
+
+		var report = recorder.getReport();
+
+		assertThat(report.getScanning()).containsOnlyKeys("Sample");
+		assertThat(report.getRepositories().get("com.acme.PersonRepository")) //
+				.containsKeys("spring.data.repository.query", "spring.data.repository.fragments");
+	}
+
+	@Test
+	void recordsTaggedDurationOfStepsThatRanElsewhere() throws Exception {
+
+		long started = System.nanoTime();
+
+		var init = recorder.start("spring.data.repository.init").tag("repository", "com.acme.PersonRepository");
+		Thread.sleep(20);
+		recorder.start("spring.data.repository.query").tag("duration", "PT0.015S").end();
+		recorder.start("spring.data.repository.query").tag("duration", () -> "PT0.002S").end();
+		recorder.start("spring.data.repository.query").tag("duration", "invalid").end();
+		init.end();
+
+		var wallTime = Duration.ofNanos(System.nanoTime() - started);
+		var steps = recorder.getReport().getRepositories().get("com.acme.PersonRepository");
+
+		assertThat(steps.get("spring.data.repository.query")).isBetween(Duration.ofMillis(17), Duration.ofMillis(18));
+		assertThat(steps.get("spring.data.repository.init")).isLessThanOrEqualTo(wallTime.minusMillis(17));
+	}
+
+	@Test
+	void reportsStepsWithoutRepositoryAsUnattributed() {
+
+		recorder.start("spring.data.mapping.entity").tag("type", "com.acme.Person").end();
+
+		var report = recorder.getReport();
+
+		assertThat(report.getRepositories()).isEmpty();
+		assertThat(report.getUnattributed()).containsOnlyKeys("spring.data.mapping.entity");
+	}
+
+	@Test
+	void delegatesSteps() {
+
+		var delegate = mock(ApplicationStartup.class);
+		var step = mock(StartupStep.class);
+		when(delegate.start(anyString())).thenReturn(step);
+
+		var recorder = new RepositoryStartupRecorder(delegate);
+
+		assertThat(recorder.start("spring.context.refresh")).isSameAs(step);
+
+		recorder.start("spring.data.repository.init").tag("repository", "com.acme.PersonRepository").end();
+
+		verify(step).tag("repository", "com.acme.PersonRepository");
+		verify(step).end();
+		assertThat(recorder.getReport().getRepositories()).containsOnlyKeys("com.acme.PersonRepository");
+	}
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.data.repository.Bulkhead;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.BulkheadRepositoryProxyPostProcessor.BulkheadMethodInterceptor;
+import org.springframework.data.repository.core.support.BulkheadRepositoryProxyPostProcessor.BulkheadStatistics;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+/**
+ * Unit tests for {@link BulkheadRepositoryProxyPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkheadRepositoryProxyPostProcessorUnitTests {
+
+	@Mock RepositoryInformation information;
+	@Mock LimitedRepository target;
+	@Mock BulkheadListener listener;
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+	CountDownLatch entered = new CountDownLatch(1);
+	CountDownLatch release = new CountDownLatch(1);
+
+	BulkheadRepositoryProxyPostProcessor processor;
+	LimitedRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		when(target.findByLastname(any())).then(invocation -> {
+
+			entered.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return invocation.getArgument(0);
+		});
+
+		processor = new BulkheadRepositoryProxyPostProcessor(listener);
+		repository = createProxy(LimitedRepository.class, target);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void rejectsInvocationsExceedingConcurrencyLimit() throws Exception {
+
+		var running = executor.submit(() -> repository.findByLastname("Matthews"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatExceptionOfType(BulkheadFullException.class).isThrownBy(() -> repository.findByLastname("Beauford"));
+
+		var statistics = statisticsFor("findByLastname");
+		assertThat(statistics.method().getName()).isEqualTo("findByLastname");
+		assertThat(statistics.activeCalls()).isOne();
+		assertThat(statistics.rejectedCalls()).isOne();
+
+		release.countDown();
+		assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("Matthews");
+		assertThat(statisticsFor("findByLastname").activeCalls()).isZero();
+
+		var captor = ArgumentCaptor.forClass(Method.class);
+		verify(listener).afterRejection(eq(LimitedRepository.class), captor.capture(), any(BulkheadFullException.class));
+		verify(listener, never()).afterWaiting(any(), any(), any(), anyInt());
+
+		assertThat(captor.getValue().getName()).isEqualTo("findByLastname");
+	}
+
+	@Test
+	void runsWaitingInvocationOnceRunningInvocationCompletes() throws Exception {
+
+		when(target.findByFirstname(any())).then(invocation -> {
+
+			entered.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return invocation.getArgument(0);
+		});
+
+		var running = executor.submit(() -> repository.findByFirstname("Dave"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		var waiting = executor.submit(() -> repository.findByFirstname("Carter"));
+
+		Thread.sleep(100);
+		assertThat(statisticsFor("findByFirstname").waitingCalls()).isOne();
+		release.countDown();
+
+		assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("Dave");
+		assertThat(waiting.get(1, TimeUnit.SECONDS)).isEqualTo("Carter");
+
+		var statistics = statisticsFor("findByFirstname");
+		assertThat(statistics.waitedCalls()).isOne();
+		assertThat(statistics.getWaitTime(TimeUnit.NANOSECONDS)).isPositive();
+		assertThat(statistics.rejectedCalls()).isZero();
+
+		var captor = ArgumentCaptor.forClass(Duration.class);
+		verify(listener).afterWaiting(eq(LimitedRepository.class), any(Method.class), captor.capture(), eq(1));
+		verify(listener, never()).afterRejection(any(), any(), any());
+
+		assertThat(captor.getValue()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void rejectsInterruptedWaitingInvocation() throws Exception {
+
+		when(target.findByFirstname(any())).then(invocation -> {
+
+			entered.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return invocation.getArgument(0);
+		});
+
+		executor.submit(() -> repository.findByFirstname("Dave"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		Thread.currentThread().interrupt();
+
+		try {
+			assertThatExceptionOfType(BulkheadFullException.class).isThrownBy(() -> repository.findByFirstname("Carter"))
+					.withCauseInstanceOf(InterruptedException.class);
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+
+		assertThat(statisticsFor("findByFirstname").waitingCalls()).isZero();
+		release.countDown();
+	}
+
+	@Test
+	void rejectsWaitingInvocationAfterMaximumWaitTime() throws Exception {
+
+		when(target.findByNickname(any())).then(invocation -> {
+
+			entered.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return invocation.getArgument(0);
+		});
+
+		executor.submit(() -> repository.findByNickname("Dave"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatExceptionOfType(BulkheadFullException.class).isThrownBy(() -> repository.findByNickname("Carter"))
+				.satisfies(it -> assertThat(it.getWaitTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50));
+
+		assertThat(statisticsFor("findByNickname").waitingCalls()).isZero();
+		release.countDown();
+	}
+
+	@Test
+	void sharesRepositoryLimitAcrossMethods() throws Exception {
+
+		var sharedTarget = mock(SharedLimitRepository.class);
+		when(sharedTarget.findByLastname(any())).then(invocation -> {
+
+			entered.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return invocation.getArgument(0);
+		});
+
+		var shared = createProxy(SharedLimitRepository.class, sharedTarget);
+
+		executor.submit(() -> shared.findByLastname("Matthews"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		assertThatExceptionOfType(BulkheadFullException.class).isThrownBy(() -> shared.findByFirstname("Dave"));
+		release.countDown();
+	}
+
+	@Test
+	void holdsPermitUntilFutureCompletes() {
+
+		var future = new CompletableFuture<String>();
+		when(target.findFutureByLastname("Matthews")).thenReturn(future);
+
+		var result = repository.findFutureByLastname("Matthews");
+
+		assertThatExceptionOfType(BulkheadFullException.class)
+				.isThrownBy(() -> repository.findFutureByLastname("Matthews"));
+
+		future.complete("Dave");
+
+		assertThat(result).isCompletedWithValue("Dave");
+		assertThat(repository.findFutureByLastname("Matthews")).isCompletedWithValue("Dave");
+	}
+
+	@Test
+	void propagatesCancellationToReturnedFuture() {
+
+		var future = new CompletableFuture<String>();
+		when(target.findFutureByLastname("Matthews")).thenReturn(future);
+
+		repository.findFutureByLastname("Matthews").cancel(false);
+
+		assertThat(future).isCancelled();
+		assertThat(statisticsFor("findFutureByLastname").activeCalls()).isZero();
+	}
+
+	@Test
+	void limitsReactiveSubscriptions() {
+
+		var sink = Sinks.<String> one();
+		when(target.findMonoByLastname("Matthews")).thenReturn(sink.asMono());
+
+		var running = repository.findMonoByLastname("Matthews").toFuture();
+
+		StepVerifier.create(repository.findMonoByLastname("Matthews")) //
+				.verifyError(BulkheadFullException.class);
+
+		sink.tryEmitValue("Dave");
+		assertThat(running).isCompletedWithValue("Dave");
+
+		StepVerifier.create(repository.findMonoByLastname("Matthews")) //
+				.expectNext("Dave") //
+				.verifyComplete();
+
+		verify(listener).afterRejection(eq(LimitedRepository.class), any(Method.class), any(BulkheadFullException.class));
+	}
+
+	@Test
+	void addsAdviceAheadOfTransactionAdvice() {
+
+		doReturn(LimitedRepository.class).when(information).getRepositoryInterface();
+
+		var factory = new ProxyFactory(target);
+		factory.addAdvisor(ExposeInvocationInterceptor.ADVISOR);
+		factory.addAdvice(new TransactionInterceptor(mock(TransactionManager.class),
+				new MatchAlwaysTransactionAttributeSource()));
+
+		processor.postProcess(factory, information);
+
+		assertThat(factory.getAdvisors()).hasSize(3);
+		assertThat(factory.getAdvisors()[1].getAdvice()).isInstanceOf(BulkheadMethodInterceptor.class);
+		assertThat(factory.getAdvisors()[2].getAdvice()).isInstanceOf(TransactionInterceptor.class);
+	}
+
+	private BulkheadStatistics statisticsFor(String methodName) {
+
+		return processor.getStatistics().stream() //
+				.filter(it -> it.method() != null && it.method().getName().equals(methodName)) //
+				.findFirst() //
+				.orElseThrow();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target) {
+
+		doReturn(repositoryInterface).when(information).getRepositoryInterface();
+
+		var factory = new ProxyFactory(target);
+		factory.setInterfaces(repositoryInterface);
+
+		processor.postProcess(factory, information);
+
+		return (T) factory.getProxy();
+	}
+
+	interface LimitedRepository {
+
+		@Bulkhead(maxConcurrentCalls = 1)
+		String findByLastname(String lastname);
+
+		@Bulkhead(maxConcurrentCalls = 1, maxWaitingCalls = 1, maxWaitTime = 2000)
+		String findByFirstname(String firstname);
+
+		@Bulkhead(maxConcurrentCalls = 1, maxWaitingCalls = 1, maxWaitTime = 50)
+		String findByNickname(String nickname);
+
+		@Bulkhead(maxConcurrentCalls = 1)
+		CompletableFuture<String> findFutureByLastname(String lastname);
+
+		@Bulkhead(maxConcurrentCalls = 1)
+		Mono<String> findMonoByLastname(String lastname);
+	}
+
+	@Bulkhead(maxConcurrentCalls = 1)
+	interface SharedLimitRepository {
+
+		String findByLastname(String lastname);
+
+		String findByFirstname(String firstname);
+	}
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.MatchAlwaysTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.reactive.TransactionContextManager;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link FindByIdBatchingRepositoryProxyPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FindByIdBatchingRepositoryProxyPostProcessorUnitTests {
+
+	@Mock RepositoryInformation information;
+	@Mock EntityInformation<Person, Long> entityInformation;
+	@Mock PersonRepository target;
+	@Mock ReactivePersonRepository reactiveTarget;
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(Person.class).when(information).getDomainType();
+		doReturn(true).when(information).isBaseClassMethod(any());
+		when(entityInformation.getRequiredId(any())).then(invocation -> invocation.<Person> getArgument(0).id());
+
+		when(target.findAllById(any())).then(invocation -> find(invocation.getArgument(0)));
+		when(reactiveTarget.findAllById(anyIterable()))
+				.then(invocation -> Flux.fromIterable(find(invocation.getArgument(0))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void batchesConcurrentFindByIdInvocations() throws Exception {
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ofMillis(500), 10);
+		var release = blockInitialLoad(repository);
+
+		List<Future<Optional<Person>>> results = new ArrayList<>();
+
+		for (long id = 1; id <= 3; id++) {
+
+			long idToUse = id;
+			results.add(executor.submit(() -> repository.findById(idToUse)));
+		}
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(results.get(i).get(2, TimeUnit.SECONDS)).contains(new Person(i + 1L));
+		}
+
+		release.countDown();
+
+		verifyLoadedInBatches(2, 1L, 2L, 3L);
+		verify(target, never()).findById(any());
+	}
+
+	@Test
+	void loadsBatchOnceMaximumSizeIsReached() throws Exception {
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ofSeconds(30), 2);
+		var release = blockInitialLoad(repository);
+
+		var first = executor.submit(() -> repository.findById(1L));
+		var second = executor.submit(() -> repository.findById(2L));
+
+		assertThat(first.get(2, TimeUnit.SECONDS)).contains(new Person(1L));
+		assertThat(second.get(2, TimeUnit.SECONDS)).contains(new Person(2L));
+
+		release.countDown();
+
+		verifyLoadedInBatches(2, 1L, 2L);
+	}
+
+	@Test
+	void loadsImmediatelyIfNoOtherInvocationIsInProgress() {
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ofSeconds(30), 10);
+
+		assertThat(assertTimeoutPreemptively(Duration.ofSeconds(1), () -> repository.findById(1L)))
+				.contains(new Person(1L));
+
+		verifyLoadedInBatches(1, 1L);
+	}
+
+	@Test
+	void returnsEmptyOptionalForMissingEntities() {
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ZERO, 10);
+
+		assertThat(repository.findById(-1L)).isEmpty();
+	}
+
+	@Test
+	void doesNotBatchWithinTransactionSynchronization() {
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ofSeconds(30), 10);
+		when(target.findById(1L)).thenReturn(Optional.of(new Person(1L)));
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+			assertThat(repository.findById(1L)).contains(new Person(1L));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(target, never()).findAllById(any());
+	}
+
+	@Test
+	void batchesOutsideOfRepositoryTransactions() throws Exception {
+
+		List<Boolean> transactional = new ArrayList<>();
+
+		var repository = createProxy(PersonRepository.class, target, Duration.ofMillis(500), 10, factory -> {
+
+			factory.addAdvisor(ExposeInvocationInterceptor.ADVISOR);
+			factory.addAdvice(new TransactionInterceptor((TransactionManager) new SimpleTransactionManager(),
+					new MatchAlwaysTransactionAttributeSource()));
+		});
+
+		var release = blockInitialLoad(repository);
+
+		doAnswer(invocation -> {
+
+			transactional.add(TransactionSynchronizationManager.isActualTransactionActive());
+			return find(invocation.getArgument(0));
+		}).when(target).findAllById(any());
+
+		var first = executor.submit(() -> repository.findById(1L));
+		var second = executor.submit(() -> repository.findById(2L));
+
+		assertThat(first.get(2, TimeUnit.SECONDS)).contains(new Person(1L));
+		assertThat(second.get(2, TimeUnit.SECONDS)).contains(new Person(2L));
+
+		release.countDown();
+
+		assertThat(transactional).containsExactly(true);
+		verifyLoadedInBatches(2, 1L, 2L);
+	}
+
+	@Test
+	void doesNotBatchRedeclaredFindById() {
+
+		var repository = createProxy(RedeclaringPersonRepository.class, mock(RedeclaringPersonRepository.class),
+				Duration.ofSeconds(30), 10);
+
+		assertThat(((Advised) repository).getAdvisors()).isEmpty();
+	}
+
+	@Test
+	void batchesReactiveFindByIdSubscriptions() {
+
+		var repository = createProxy(ReactivePersonRepository.class, reactiveTarget, Duration.ofMillis(500), 10);
+
+		StepVerifier.create(Mono.zip(repository.findById(1L), repository.findById(2L), repository.findById(-1L))) //
+				.verifyComplete();
+
+		StepVerifier.create(Mono.zip(repository.findById(1L), repository.findById(2L))) //
+				.expectNext(Tuples.of(new Person(1L), new Person(2L))) //
+				.verifyComplete();
+
+		verify(reactiveTarget, times(2)).findAllById(anyIterable());
+		verify(reactiveTarget, never()).findById(anyLong());
+	}
+
+	@Test
+	void loadsReactiveBatchWithinSubscriberContext() {
+
+		when(reactiveTarget.findAllById(anyIterable())).then(invocation -> Flux.deferContextual(context -> {
+
+			assertThat(context.hasKey("tenant")).isTrue();
+			return Flux.fromIterable(find(invocation.getArgument(0)));
+		}));
+
+		var repository = createProxy(ReactivePersonRepository.class, reactiveTarget, Duration.ofMillis(50), 10);
+
+		StepVerifier.create(Mono.zip(repository.findById(1L), repository.findById(2L)) //
+				.contextWrite(Context.of("tenant", "acme"))) //
+				.expectNext(Tuples.of(new Person(1L), new Person(2L))) //
+				.verifyComplete();
+
+		verify(reactiveTarget).findAllById(anyIterable());
+	}
+
+	@Test
+	void doesNotBatchWithinReactiveTransaction() {
+
+		var repository = createProxy(ReactivePersonRepository.class, reactiveTarget, Duration.ofSeconds(30), 10);
+		when(reactiveTarget.findById(1L)).thenReturn(Mono.just(new Person(1L)));
+
+		StepVerifier.create(repository.findById(1L) //
+				.contextWrite(TransactionContextManager.getOrCreateContext()) //
+				.contextWrite(TransactionContextManager.getOrCreateContextHolder())) //
+				.expectNext(new Person(1L)) //
+				.verifyComplete();
+
+		verify(reactiveTarget, never()).findAllById(anyIterable());
+	}
+
+	/**
+	 * Blocks loading the batch of an initial invocation so that subsequent invocations find another invocation in
+	 * progress and get batched.
+	 */
+	private CountDownLatch blockInitialLoad(PersonRepository repository) throws InterruptedException {
+
+		var loading = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+
+		doAnswer(invocation -> {
+
+			loading.countDown();
+			release.await(2, TimeUnit.SECONDS);
+
+			return find(invocation.getArgument(0));
+		}).doAnswer(invocation -> find(invocation.getArgument(0))).when(target).findAllById(any());
+
+		executor.submit(() -> repository.findById(100L));
+		assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+		return release;
+	}
+
+	private <T> T createProxy(Class<T> repositoryInterface, T target, Duration window, int maxBatchSize) {
+		return createProxy(repositoryInterface, target, window, maxBatchSize, factory -> {});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target, Duration window, int maxBatchSize,
+			Consumer<ProxyFactory> customizer) {
+
+		doReturn(repositoryInterface).when(information).getRepositoryInterface();
+
+		var factory = new ProxyFactory(target);
+		factory.setInterfaces(repositoryInterface);
+		customizer.accept(factory);
+
+		new FindByIdBatchingRepositoryProxyPostProcessor(it -> entityInformation, window, maxBatchSize)
+				.postProcess(factory, information);
+
+		return (T) factory.getProxy();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void verifyLoadedInBatches(int batches, Long... ids) {
+
+		ArgumentCaptor<Iterable<Long>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(target, times(batches)).findAllById(captor.capture());
+
+		assertThat(captor.getValue()).containsExactlyInAnyOrder(ids);
+	}
+
+	private static List<Person> find(Iterable<Long> ids) {
+
+		List<Person> result = new ArrayList<>();
+
+		for (Long id : ids) {
+			if (id > 0) {
+				result.add(new Person(id));
+			}
+		}
+
+		return result;
+	}
+
+	record Person(Long id) {}
+
+	interface PersonRepository extends CrudRepository<Person, Long> {}
+
+	interface ReactivePersonRepository extends ReactiveCrudRepository<Person, Long> {}
+
+	interface RedeclaringPersonRepository extends CrudRepository<Person, Long> {
+
+		@Override
+		Optional<Person> findById(Long id);
+	}
+
+	/**
+	 * {@link AbstractPlatformTransactionManager} starting a new transaction without any resources for each invocation.
+	 */
+	static class SimpleTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {}
+	}
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.CoalesceInvocations;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.InvocationCoalescingRepositoryProxyPostProcessor.InvocationCoalescingMethodInterceptor;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Unit tests for {@link InvocationCoalescingRepositoryProxyPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class InvocationCoalescingRepositoryProxyPostProcessorUnitTests {
+
+	@Mock RepositoryInformation information;
+	@Mock CoalescingRepository target;
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+	CoalescingRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(CoalescingRepository.class).when(information).getRepositoryInterface();
+		repository = createProxy(CoalescingRepository.class, target);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void coalescesConcurrentInvocationsWithEqualArguments() throws Exception {
+
+		var entered = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+
+		when(target.findByLastname("Matthews")).then(invocation -> {
+
+			entered.countDown();
+			release.await(1, TimeUnit.SECONDS);
+
+			return List.of("Dave");
+		});
+
+		var first = executor.submit(() -> repository.findByLastname("Matthews"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		var second = executor.submit(() -> repository.findByLastname("Matthews"));
+		Thread.sleep(100);
+		release.countDown();
+
+		assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly("Dave");
+		assertThat(second.get(1, TimeUnit.SECONDS)).containsExactly("Dave");
+
+		verify(target).findByLastname("Matthews");
+	}
+
+	@Test
+	void invokesMethodAgainOnceInvocationCompleted() {
+
+		repository.findByLastname("Matthews");
+		repository.findByLastname("Matthews");
+
+		verify(target, times(2)).findByLastname("Matthews");
+	}
+
+	@Test
+	void propagatesErrorsToWaitingInvocations() throws Exception {
+
+		var entered = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+
+		when(target.findByLastname("Matthews")).then(invocation -> {
+
+			entered.countDown();
+			release.await(1, TimeUnit.SECONDS);
+
+			throw new IllegalStateException("Boom");
+		});
+
+		var first = executor.submit(() -> repository.findByLastname("Matthews"));
+		assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+
+		var second = executor.submit(() -> repository.findByLastname("Matthews"));
+		Thread.sleep(100);
+		release.countDown();
+
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> first.get(1, TimeUnit.SECONDS))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+		assertThatExceptionOfType(Exception.class).isThrownBy(() -> second.get(1, TimeUnit.SECONDS))
+				.withRootCauseInstanceOf(IllegalStateException.class);
+
+		verify(target).findByLastname("Matthews");
+	}
+
+	@Test
+	void coalescesCompletableFutureInvocations() {
+
+		var source = new CompletableFuture<String>();
+		when(target.findByFirstname("Dave")).thenReturn(source);
+
+		var first = repository.findByFirstname("Dave");
+		var second = repository.findByFirstname("Dave");
+
+		assertThat(first).isNotDone();
+		source.complete("Matthews");
+
+		assertThat(first).isCompletedWithValue("Matthews");
+		assertThat(second).isCompletedWithValue("Matthews");
+		verify(target).findByFirstname("Dave");
+
+		repository.findByFirstname("Dave");
+		verify(target, times(2)).findByFirstname("Dave");
+	}
+
+	@Test
+	void coalescesMonoSubscriptions() {
+
+		var source = new CompletableFuture<String>();
+		var subscriptions = new AtomicInteger();
+
+		when(target.findById(42L)).thenReturn(Mono.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Mono.fromFuture(source);
+		}));
+
+		var first = repository.findById(42L).toFuture();
+		var second = repository.findById(42L).toFuture();
+
+		source.complete("Dave");
+
+		assertThat(first).isCompletedWithValue("Dave");
+		assertThat(second).isCompletedWithValue("Dave");
+		assertThat(subscriptions).hasValue(1);
+
+		StepVerifier.create(repository.findById(42L)).expectNext("Dave").verifyComplete();
+		assertThat(subscriptions).hasValue(2);
+	}
+
+	@Test
+	void propagatesSubscriberContextToCoalescedMono() {
+
+		when(target.findById(42L)).thenReturn(Mono.deferContextual(context -> Mono.just(context.<String> get("tenant"))));
+
+		StepVerifier.create(repository.findById(42L).contextWrite(context -> context.put("tenant", "acme"))) //
+				.expectNext("acme") //
+				.verifyComplete();
+	}
+
+	@Test
+	void doesNotCoalesceReentrantInvocations() {
+
+		var invocations = new AtomicInteger();
+
+		when(target.findByLastname("Matthews")).then(invocation -> invocations.getAndIncrement() == 0
+				? repository.findByLastname("Matthews")
+				: List.of("Dave"));
+
+		assertThat(assertTimeoutPreemptively(Duration.ofSeconds(1), () -> repository.findByLastname("Matthews")))
+				.containsExactly("Dave");
+
+		verify(target, times(2)).findByLastname("Matthews");
+	}
+
+	@Test
+	void coalescesQueryMethodsOfAnnotatedRepositoryOnly() throws Exception {
+
+		doReturn(AnnotatedRepository.class).when(information).getRepositoryInterface();
+
+		var annotatedTarget = mock(AnnotatedRepository.class);
+		var release = new CountDownLatch(1);
+
+		when(annotatedTarget.save("Dave")).then(invocation -> {
+			release.await(1, TimeUnit.SECONDS);
+			return "Dave";
+		});
+
+		var annotated = createProxy(AnnotatedRepository.class, annotatedTarget);
+
+		var first = executor.submit(() -> annotated.save("Dave"));
+		var second = executor.submit(() -> annotated.save("Dave"));
+		Thread.sleep(100);
+		release.countDown();
+
+		first.get(1, TimeUnit.SECONDS);
+		second.get(1, TimeUnit.SECONDS);
+
+		verify(annotatedTarget, times(2)).save("Dave");
+	}
+
+	@Test
+	void doesNotCoalesceModifyingOrCustomMethodsOfAnnotatedRepository() {
+
+		doReturn(AnnotatedRepository.class).when(information).getRepositoryInterface();
+		doReturn(true).when(information).isQueryMethod(any());
+
+		var factory = new ProxyFactory();
+		new InvocationCoalescingRepositoryProxyPostProcessor(List.of(Modifying.class)).postProcess(factory, information);
+
+		var interceptor = (InvocationCoalescingMethodInterceptor) factory.getAdvisors()[0].getAdvice();
+
+		assertThat(interceptor.isCoalesced(ReflectionUtils.findMethod(AnnotatedRepository.class, "findByLastname",
+				String.class))).isTrue();
+		assertThat(interceptor.isCoalesced(ReflectionUtils.findMethod(AnnotatedRepository.class, "updateLastname",
+				String.class))).isFalse();
+
+		doReturn(false).when(information).isQueryMethod(any());
+
+		factory = new ProxyFactory();
+		new InvocationCoalescingRepositoryProxyPostProcessor(List.of(Modifying.class)).postProcess(factory, information);
+
+		assertThat(factory.getAdvisors()).isEmpty();
+	}
+
+	@Test
+	void rejectsStreamMethods() {
+
+		doReturn(StreamingRepository.class).when(information).getRepositoryInterface();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> createProxy(StreamingRepository.class, mock(StreamingRepository.class)))
+				.withMessageContaining("streamByLastname");
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target) {
+
+		var factory = new ProxyFactory(target);
+		factory.setInterfaces(repositoryInterface);
+
+		new InvocationCoalescingRepositoryProxyPostProcessor(List.of(Modifying.class)).postProcess(factory, information);
+
+		return (T) factory.getProxy();
+	}
+
+	interface CoalescingRepository {
+
+		@CoalesceInvocations
+		List<String> findByLastname(String lastname);
+
+		@CoalesceInvocations
+		CompletableFuture<String> findByFirstname(String firstname);
+
+		@CoalesceInvocations
+		Mono<String> findById(Long id);
+	}
+
+	@CoalesceInvocations
+	interface AnnotatedRepository {
+
+		String findByLastname(String lastname);
+
+		String save(String name);
+
+		@Modifying
+		int updateLastname(String lastname);
+
+		Stream<String> streamAll();
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Modifying {}
+
+	interface StreamingRepository {
+
+		@CoalesceInvocations
+		Stream<String> streamByLastname(String lastname);
+	}
+}
@@ -414,6 +414,30 @@ class QueryExecutionResultHandlerUnitTests {
 		assertThat(handler.postProcessInvocationResult(source, getMethod("option"))).isSameAs(source);
 	}
 
+	@Test
+	void precomputesConversionPlansForNestedWrapperTypes() throws Exception {
+
+		var descriptor = handler.createReturnTypeDescriptor(getMethod("tryOfOption"));
+
+		assertThat(descriptor.getReturnType()).isEqualTo(Try.class);
+		assertThat(descriptor.getConversionPlan(0).wrapper()).isTrue();
+		assertThat(descriptor.getConversionPlan(1).type()).isEqualTo(Option.class);
+		assertThat(descriptor.getConversionPlan(2).type()).isEqualTo(Entity.class);
+		assertThat(descriptor.getConversionPlan(2).wrapper()).isFalse();
+		assertThat(descriptor.getConversionPlan(3)).isNull();
+	}
+
+	@Test
+	void appliesPrecomputedReturnTypeDescriptor() throws Exception {
+
+		var descriptor = handler.createReturnTypeDescriptor(getMethod("set"));
+		var source = Collections.singletonList(new Entity());
+
+		assertThat(handler.postProcessInvocationResult(source, descriptor)).isInstanceOf(Set.class);
+		assertThat(handler.postProcessInvocationResult(null, handler.createReturnTypeDescriptor(getMethod("jdk8Optional"))))
+				.isEqualTo(Optional.empty());
+	}
+
 	private static Method getMethod(String methodName) throws Exception {
 		return Sample.class.getMethod(methodName);
 	}
@@ -16,19 +16,35 @@
 package org.springframework.data.repository.core.support;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import org.aopalliance.intercept.MethodInvocation;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.config.RepositoryStartupRecorder;
 import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.util.Streamable;
 
 /**
  * Unit test for {@link QueryExecutorMethodInterceptor}.
@@ -56,9 +72,163 @@ class QueryExecutorMethodInterceptorUnitTests {
 	@Test // DATACMNS-1508
 	void skipsQueryLookupsIfQueryLookupStrategyIsNotPresent() {
 
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+
 		new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(), Optional.empty(),
 				PropertiesBasedNamedQueries.EMPTY, Collections.emptyList(), Collections.emptyList());
 
 		verify(strategy, times(0)).resolveQuery(any(), any(), any(), any());
 	}
+
+	@Test
+	void executesResolvedQueryAndProceedsForOtherMethods() throws Throwable {
+
+		var queryMethod = Sample.class.getMethod("findByName", String.class);
+		var otherMethod = Sample.class.getMethod("findAllNames");
+		var query = mock(RepositoryQuery.class);
+
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+		when(information.getQueryMethods()).thenReturn(Streamable.of(queryMethod));
+		when(strategy.resolveQuery(eq(queryMethod), any(), any(), any())).thenReturn(query);
+		when(query.execute(any())).thenReturn("Walter");
+
+		var interceptor = new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(),
+				Optional.of(strategy), PropertiesBasedNamedQueries.EMPTY, Collections.emptyList(), Collections.emptyList());
+
+		var queryInvocation = mock(MethodInvocation.class);
+		when(queryInvocation.getMethod()).thenReturn(queryMethod);
+		when(queryInvocation.getArguments()).thenReturn(new Object[] { "Walter" });
+
+		assertThat(interceptor.invoke(queryInvocation)).isEqualTo(Optional.of("Walter"));
+		assertThat(interceptor.invoke(queryInvocation)).isEqualTo(Optional.of("Walter"));
+		verify(queryInvocation, never()).proceed();
+		verify(strategy, times(1)).resolveQuery(any(), any(), any(), any());
+
+		var otherInvocation = mock(MethodInvocation.class);
+		when(otherInvocation.getMethod()).thenReturn(otherMethod);
+		when(otherInvocation.proceed()).thenReturn(Arrays.asList("Walter", "Walter"));
+
+		assertThat(interceptor.invoke(otherInvocation)).isEqualTo(Collections.singleton("Walter"));
+	}
+
+	@Test
+	void endsQueryLookupStepIfLookupFails() throws Exception {
+
+		var step = mock(StartupStep.class, RETURNS_SELF);
+		var startup = mock(ApplicationStartup.class);
+		when(startup.start(anyString())).thenReturn(step);
+
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+		when(information.getQueryMethods()).thenReturn(Streamable.of(Sample.class.getMethod("findByName", String.class)));
+		when(strategy.resolveQuery(any(), any(), any(), any())).thenThrow(new IllegalStateException());
+
+		assertThatExceptionOfType(QueryCreationException.class)
+				.isThrownBy(() -> new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(),
+						Optional.of(strategy), PropertiesBasedNamedQueries.EMPTY, Collections.emptyList(),
+						Collections.emptyList(), startup, null));
+
+		verify(step).end();
+	}
+
+	@Test
+	void resolvesQueriesConcurrentlyAndInvokesListenersInQueryMethodOrder() throws Exception {
+
+		var first = Sample.class.getMethod("findByName", String.class);
+		var second = Sample.class.getMethod("findAllNames");
+		var firstQuery = mock(RepositoryQuery.class);
+		var secondQuery = mock(RepositoryQuery.class);
+		var startup = spy(ApplicationStartup.DEFAULT);
+		var executor = Executors.newFixedThreadPool(2);
+
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+		when(information.getQueryMethods()).thenReturn(Streamable.of(first, second));
+		when(strategy.resolveQuery(eq(first), any(), any(), any())).then(invocation -> {
+			Thread.sleep(50);
+			return firstQuery;
+		});
+		when(strategy.resolveQuery(eq(second), any(), any(), any())).thenReturn(secondQuery);
+
+		List<RepositoryQuery> created = new ArrayList<>();
+		QueryCreationListener<RepositoryQuery> listener = new QueryCreationListener<>() {
+
+			@Override
+			public void onCreation(RepositoryQuery query) {
+				created.add(query);
+			}
+		};
+
+		try {
+			new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(), Optional.of(strategy),
+					PropertiesBasedNamedQueries.EMPTY, List.of(listener), Collections.emptyList(), startup, executor);
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(created).containsExactly(firstQuery, secondQuery);
+		verify(startup, times(2)).start("spring.data.repository.query");
+	}
+
+	@Test
+	void reportsTimeOfConcurrentLookupsToStartupRecorder() throws Exception {
+
+		var first = Sample.class.getMethod("findByName", String.class);
+		var second = Sample.class.getMethod("findAllNames");
+		var recorder = new RepositoryStartupRecorder();
+		var executor = Executors.newFixedThreadPool(2);
+
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+		when(information.getQueryMethods()).thenReturn(Streamable.of(first, second));
+		when(strategy.resolveQuery(any(), any(), any(), any())).then(invocation -> {
+			Thread.sleep(50);
+			return mock(RepositoryQuery.class);
+		});
+
+		var init = recorder.start("spring.data.repository.init").tag("repository", Sample.class.getName());
+
+		try {
+			new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(), Optional.of(strategy),
+					PropertiesBasedNamedQueries.EMPTY, Collections.emptyList(), Collections.emptyList(), recorder, executor);
+		} finally {
+			executor.shutdown();
+			init.end();
+		}
+
+		var steps = recorder.getReport().getRepositories().get(Sample.class.getName());
+
+		assertThat(steps.get("spring.data.repository.query")).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+		assertThat(steps.get("spring.data.repository.init")).isLessThan(Duration.ofMillis(50));
+	}
+
+	@Test
+	void reportsFailureOfFirstQueryMethodWhenResolvingConcurrently() throws Exception {
+
+		var first = Sample.class.getMethod("findByName", String.class);
+		var second = Sample.class.getMethod("findAllNames");
+		var executor = Executors.newFixedThreadPool(2);
+
+		doReturn(Sample.class).when(information).getRepositoryInterface();
+		when(information.getQueryMethods()).thenReturn(Streamable.of(first, second));
+		when(strategy.resolveQuery(eq(first), any(), any(), any())).then(invocation -> {
+			Thread.sleep(50);
+			throw new IllegalStateException("first");
+		});
+		when(strategy.resolveQuery(eq(second), any(), any(), any())).thenThrow(new IllegalStateException("second"));
+
+		try {
+			assertThatExceptionOfType(QueryCreationException.class)
+					.isThrownBy(() -> new QueryExecutorMethodInterceptor(information, new SpelAwareProxyProjectionFactory(),
+							Optional.of(strategy), PropertiesBasedNamedQueries.EMPTY, Collections.emptyList(),
+							Collections.emptyList(), ApplicationStartup.DEFAULT, executor))
+					.satisfies(it -> assertThat(it.getMethod()).isEqualTo(first));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	interface Sample extends Repository<Object, Long> {
+
+		Optional<String> findByName(String name);
+
+		Set<String> findAllNames();
+	}
 }
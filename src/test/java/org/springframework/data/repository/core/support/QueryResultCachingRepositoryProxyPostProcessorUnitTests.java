@@ -0,0 +1,242 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.CachedQueryResult;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link QueryResultCachingRepositoryProxyPostProcessor}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryResultCachingRepositoryProxyPostProcessorUnitTests {
+
+	@Mock RepositoryInformation information;
+	@Mock CachingRepository target;
+
+	CachingRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		doReturn(CachingRepository.class).when(information).getRepositoryInterface();
+
+		when(target.findByLastname("Matthews")).thenReturn(List.of("Dave"), List.of("Dave", "Carter"));
+		when(target.findByFirstname(any())).then(invocation -> invocation.getArgument(0));
+		when(target.findByAge(anyInt())).then(invocation -> List.of(invocation.<Integer> getArgument(0)));
+
+		repository = createProxy(CachingRepository.class, target);
+	}
+
+	@Test
+	void cachesResultsPerArguments() {
+
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave");
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave");
+		assertThat(repository.findByLastname("Beauford")).isEmpty();
+		assertThat(repository.findByLastname("Beauford")).isEmpty();
+
+		verify(target).findByLastname("Matthews");
+		verify(target).findByLastname("Beauford");
+	}
+
+	@Test
+	void doesNotCacheMethodsWithoutAnnotation() {
+
+		repository.findAllByLastname("Matthews");
+		repository.findAllByLastname("Matthews");
+
+		verify(target, times(2)).findAllByLastname("Matthews");
+	}
+
+	@Test
+	void invalidatesCachedResultsOnSaveAndDelete() {
+
+		repository.findByLastname("Matthews");
+		repository.save("Carter");
+
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave", "Carter");
+
+		repository.deleteById("Carter");
+		repository.findByLastname("Matthews");
+
+		verify(target, times(3)).findByLastname("Matthews");
+	}
+
+	@Test
+	void invalidatesCachedResultsOnModifyingMethods() {
+
+		repository.findByLastname("Matthews");
+		repository.updateLastname("Carter", "Matthews");
+
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave", "Carter");
+
+		verify(target, times(2)).findByLastname("Matthews");
+	}
+
+	@Test
+	void invalidatesCachedResultsAfterTransactionCompletion() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			repository.save("Carter");
+			repository.findByLastname("Matthews");
+			repository.findByLastname("Matthews");
+
+			verify(target).findByLastname("Matthews");
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(it -> it.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave", "Carter");
+
+		verify(target, times(2)).findByLastname("Matthews");
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedResults() {
+
+		repository.findByFirstname("Dave");
+		repository.findByFirstname("Carter");
+		repository.findByFirstname("Dave");
+		repository.findByFirstname("Carter");
+
+		verify(target, times(2)).findByFirstname("Dave");
+		verify(target, times(2)).findByFirstname("Carter");
+	}
+
+	@Test
+	void expiresCachedResults() throws InterruptedException {
+
+		repository.findByAge(42);
+		repository.findByAge(42);
+
+		verify(target).findByAge(42);
+
+		Thread.sleep(100);
+		repository.findByAge(42);
+
+		verify(target, times(2)).findByAge(42);
+	}
+
+	@Test
+	void rejectsCachingOfStreamResults() {
+
+		doReturn(StreamingRepository.class).when(information).getRepositoryInterface();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> createProxy(StreamingRepository.class, mock(StreamingRepository.class)))
+				.withMessageContaining("streamByLastname");
+	}
+
+	@Test
+	void doesNotRegisterAdviceWithoutCachedMethods() {
+
+		doReturn(CrudRepository.class).when(information).getRepositoryInterface();
+
+		var factory = new ProxyFactory();
+		new QueryResultCachingRepositoryProxyPostProcessor().postProcess(factory, information);
+
+		assertThat(factory.getAdvisors()).isEmpty();
+	}
+
+	@Test
+	void doesNotInvalidateCachedResultsOnMethodsWithUnknownAnnotations() {
+
+		repository = createProxy(CachingRepository.class, target, new QueryResultCachingRepositoryProxyPostProcessor());
+
+		repository.findByLastname("Matthews");
+		repository.updateLastname("Carter", "Matthews");
+
+		assertThat(repository.findByLastname("Matthews")).containsExactly("Dave");
+
+		verify(target).findByLastname("Matthews");
+	}
+
+	private <T> T createProxy(Class<T> repositoryInterface, T target) {
+		return createProxy(repositoryInterface, target,
+				new QueryResultCachingRepositoryProxyPostProcessor(List.of(Modifying.class)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T createProxy(Class<T> repositoryInterface, T target,
+			QueryResultCachingRepositoryProxyPostProcessor postProcessor) {
+
+		var factory = new ProxyFactory(target);
+		factory.setInterfaces(repositoryInterface);
+
+		postProcessor.postProcess(factory, information);
+
+		return (T) factory.getProxy();
+	}
+
+	interface CachingRepository {
+
+		@CachedQueryResult
+		List<String> findByLastname(String lastname);
+
+		@CachedQueryResult(maxSize = 1)
+		String findByFirstname(String firstname);
+
+		@CachedQueryResult(timeToLive = 50, timeUnit = TimeUnit.MILLISECONDS)
+		List<Integer> findByAge(int age);
+
+		List<String> findAllByLastname(String lastname);
+
+		String save(String name);
+
+		void deleteById(String id);
+
+		@Modifying
+		int updateLastname(String firstname, String lastname);
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Modifying {}
+
+	interface StreamingRepository {
+
+		@CachedQueryResult
+		Stream<String> streamByLastname(String lastname);
+	}
+}
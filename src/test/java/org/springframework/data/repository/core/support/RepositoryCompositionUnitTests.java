@@ -168,6 +168,36 @@ class RepositoryCompositionUnitTests {
 				.containsSequence(initial, structural);
 	}
 
+	@Test
+	void shouldInvokePrecomputedFragmentMethods() throws Throwable {
+
+		repositoryComposition.precomputeDispatch(PersonRepository.class);
+
+		var save = ReflectionUtils.findMethod(PersonRepository.class, "save", Person.class);
+		var findOne = ReflectionUtils.findMethod(PersonRepository.class, "findOne", Example.class);
+
+		var person = new Person();
+		var example = Example.of(person);
+
+		repositoryComposition.invoke(save, person);
+		repositoryComposition.invoke(findOne, example);
+
+		verify(backingRepo).save(person);
+		verify(queryByExampleExecutor).findOne(example);
+	}
+
+	@Test
+	void shouldRejectInvocationOfMethodWithoutImplementation() {
+
+		var composition = RepositoryComposition.of(RepositoryFragment.structural(QueryByExampleExecutor.class));
+		composition.precomputeDispatch(QueryByExampleExecutor.class);
+
+		var findOne = ReflectionUtils.findMethod(QueryByExampleExecutor.class, "findOne", Example.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> composition.invoke(findOne, Example.of(new Person())))
+				.withMessageContaining("No fragment found for method");
+	}
+
 	interface PersonRepository extends Repository<Person, String>, QueryByExampleExecutor<Person> {
 
 		Person save(Person entity);
@@ -22,11 +22,14 @@ import static org.mockito.Mockito.*;
 
 import java.io.Serializable;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -72,6 +75,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.interceptor.TransactionalProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 
@@ -324,6 +328,55 @@ class RepositoryFactorySupportUnitTests {
 		expect(prepareConvertingRepository(reference).readAllByLastname("Foo"), reference);
 	}
 
+	@Test
+	void executesFutureMethodsOnConfiguredExecutor() throws Exception {
+
+		var executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "repository-async"));
+		var threads = new ArrayList<String>();
+		var reference = new User();
+
+		when(factory.queryOne.execute(any(Object[].class))).then(invocation -> {
+			threads.add(Thread.currentThread().getName());
+			return singletonList(reference);
+		});
+
+		try {
+
+			factory.setAsyncExecutor(executor);
+			var repository = factory.getRepository(ConvertingRepository.class);
+
+			assertThat(repository.readAllByFirstname("Foo").get(1, TimeUnit.SECONDS)).containsExactly(reference);
+			assertThat(repository.convertListToObjectSet()).containsExactly(reference);
+			assertThat(threads).containsExactly("repository-async", Thread.currentThread().getName());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void invokesFutureMethodsOnCallingThreadIfTransactionSynchronizationIsActive() throws Exception {
+
+		var reference = new User();
+		Executor executor = mock(Executor.class);
+
+		when(factory.queryOne.execute(any(Object[].class))).thenReturn(reference);
+
+		factory.setAsyncExecutor(executor);
+		var repository = factory.getRepository(ConvertingRepository.class);
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+
+			var future = repository.findOneByFirstname("Foo");
+
+			assertThat(future).isCompletedWithValue(reference);
+			verifyNoInteractions(executor);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
 	@Test // DATACMNS-763
 	@SuppressWarnings("rawtypes")
 	void rejectsRepositoryBaseClassWithInvalidConstructor() {
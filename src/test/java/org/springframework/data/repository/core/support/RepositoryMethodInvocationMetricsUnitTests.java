@@ -0,0 +1,175 @@
+/*
+ * Copyright 2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.repository.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult.State;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationMetrics.Histogram;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationMetrics.MethodStatistics;
+import org.springframework.jmx.export.annotation.AnnotationMBeanExporter;
+
+/**
+ * Unit tests for {@link RepositoryMethodInvocationMetrics}.
+ */
+class RepositoryMethodInvocationMetricsUnitTests {
+
+	RepositoryMethodInvocationMetrics metrics = new RepositoryMethodInvocationMetrics();
+
+	@Test
+	void recordsCountsPerState() throws Exception {
+
+		Method method = CrudRepository.class.getMethod("findById", Object.class);
+
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.SUCCESS, 1_000));
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.SUCCESS, 2_000));
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.ERROR, 3_000));
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.CANCELED, 4_000));
+
+		MethodStatistics statistics = metrics.getStatistics(PersonRepository.class, method);
+
+		assertThat(statistics.getCount()).isEqualTo(4);
+		assertThat(statistics.getSuccessCount()).isEqualTo(2);
+		assertThat(statistics.getErrorCount()).isEqualTo(1);
+		assertThat(statistics.getCancelCount()).isEqualTo(1);
+		assertThat(statistics.getMean(TimeUnit.NANOSECONDS)).isEqualTo(2_500);
+		assertThat(statistics.getMax(TimeUnit.NANOSECONDS)).isEqualTo(4_000);
+	}
+
+	@Test
+	void ignoresInvocationsNotCompleted() throws Exception {
+
+		Method method = CrudRepository.class.getMethod("findById", Object.class);
+
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.RUNNING, 1_000));
+
+		assertThat(metrics.getStatistics(PersonRepository.class, method)).isNull();
+
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.SUCCESS, 2_000));
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.RUNNING, 3_000));
+
+		MethodStatistics statistics = metrics.getStatistics(PersonRepository.class, method);
+
+		assertThat(statistics.getCount()).isOne();
+		assertThat(statistics.getSuccessCount()).isOne();
+		assertThat(statistics.getMax(TimeUnit.NANOSECONDS)).isEqualTo(2_000);
+	}
+
+	@Test
+	void separatesMethodsInheritedByDifferentRepositories() throws Exception {
+
+		Method method = CrudRepository.class.getMethod("findById", Object.class);
+
+		metrics.afterInvocation(invocation(PersonRepository.class, method, State.SUCCESS, 1_000));
+		metrics.afterInvocation(invocation(OrderRepository.class, method, State.SUCCESS, 1_000));
+
+		assertThat(metrics.getStatistics()).hasSize(2);
+		assertThat(metrics.getStatistics(PersonRepository.class, method).getCount()).isOne();
+		assertThat(metrics.getStatistics(OrderRepository.class, method).getCount()).isOne();
+	}
+
+	@Test
+	void computesPercentilesWithBoundedError() throws Exception {
+
+		Method method = CrudRepository.class.getMethod("count");
+
+		for (int i = 1; i <= 100; i++) {
+			metrics.afterInvocation(invocation(PersonRepository.class, method, State.SUCCESS, i * 1_000_000L));
+		}
+
+		MethodStatistics statistics = metrics.getStatistics(PersonRepository.class, method);
+
+		assertThat(statistics.getValueAtPercentile(50, TimeUnit.MILLISECONDS)).isBetween(50L, 57L);
+		assertThat(statistics.getValueAtPercentile(99, TimeUnit.MILLISECONDS)).isBetween(99L, 100L);
+		assertThat(statistics.getValueAtPercentile(100, TimeUnit.MILLISECONDS)).isEqualTo(100);
+	}
+
+	@Test
+	void returnsNullForUnknownMethod() throws Exception {
+		assertThat(metrics.getStatistics(PersonRepository.class, CrudRepository.class.getMethod("count"))).isNull();
+	}
+
+	@Test
+	void mapsValuesToContiguousBuckets() {
+
+		for (long value = 0; value < 100_000; value++) {
+
+			int index = Histogram.indexOf(value);
+
+			assertThat(Histogram.upperBound(index)).isGreaterThanOrEqualTo(value);
+			assertThat(index == 0 || Histogram.upperBound(index - 1) < value).isTrue();
+		}
+
+		assertThat(Histogram.indexOf(Long.MAX_VALUE)).isEqualTo(Histogram.indexOf(1L << 41));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void exposesStatisticsThroughJmx() throws Exception {
+
+		var server = MBeanServerFactory.newMBeanServer();
+		var exporter = new AnnotationMBeanExporter();
+		exporter.setServer(server);
+
+		var name = ObjectName.getInstance("org.springframework.data:type=RepositoryMethodInvocationMetrics");
+		exporter.registerManagedResource(metrics, name);
+
+		metrics.afterInvocation(invocation(PersonRepository.class, CrudRepository.class.getMethod("findById", Object.class),
+				State.SUCCESS, 1_000));
+
+		var summary = (Map<String, String>) server.getAttribute(name, "StatisticsSummary");
+
+		assertThat(summary).containsOnlyKeys("PersonRepository.findById(Object)");
+
+		server.invoke(name, "reset", null, null);
+
+		assertThat(metrics.getStatistics()).isEmpty();
+	}
+
+	private static RepositoryMethodInvocation invocation(Class<?> repositoryInterface, Method method, State state,
+			long durationNs) {
+
+		RepositoryMethodInvocationResult result = new RepositoryMethodInvocationResult() {
+
+			@Override
+			public State getState() {
+				return state;
+			}
+
+			@Override
+			public Throwable getError() {
+				return null;
+			}
+		};
+
+		return new RepositoryMethodInvocation(repositoryInterface, method, result, durationNs);
+	}
+
+	interface PersonRepository extends CrudRepository<Object, Long> {}
+
+	interface OrderRepository extends CrudRepository<Object, Long> {}
+}
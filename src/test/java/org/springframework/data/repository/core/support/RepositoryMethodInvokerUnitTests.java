@@ -30,7 +30,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -275,6 +282,60 @@ class RepositoryMethodInvokerUnitTests {
 		assertThat(multicaster.first().getResult().getError()).isNull();
 	}
 
+	@Test
+	void emitsFlightRecorderEvents() throws Exception {
+
+		when(query.execute(any())).thenReturn(new TestDummy()).thenThrow(new IllegalStateException());
+
+		Path file = Files.createTempFile("repository-invocation", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(RepositoryMethodInvocationEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			repositoryMethodInvoker("findAll").invoke();
+			assertThatIllegalStateException().isThrownBy(() -> repositoryMethodInvoker("findByName").invoke());
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+					.filter(it -> it.getEventType().getName().equals("org.springframework.data.RepositoryMethodInvocation"))
+					.toList();
+
+			assertThat(events).hasSize(2);
+			assertThat(events.get(0).getClass("repositoryInterface").getName()).isEqualTo(DummyRepository.class.getName());
+			assertThat(events.get(0).getString("method")).isEqualTo("findAll()");
+			assertThat(events.get(0).getString("state")).isEqualTo("SUCCESS");
+			assertThat(events.get(1).getString("method")).isEqualTo("findByName(String)");
+			assertThat(events.get(1).getString("state")).isEqualTo("ERROR");
+			assertThat(events.get(1).getClass("errorType").getName()).isEqualTo(IllegalStateException.class.getName());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	void doesNotNotifyListenersTwiceIfListenerFails() throws Exception {
+
+		when(query.execute(any())).thenReturn(new TestDummy());
+
+		List<State> states = new ArrayList<>();
+		RepositoryInvocationMulticaster failing = (method, args, result) -> {
+			states.add(result.getResult().getState());
+			throw new IllegalStateException("Listener failed");
+		};
+
+		assertThatIllegalStateException().isThrownBy(() -> repositoryMethodInvoker("findAll").invoke(failing));
+		assertThat(states).containsExactly(State.SUCCESS);
+	}
+
+	@Test
+	void doesNotCreateFlightRecorderEventsIfDisabled() {
+		assertThat(RepositoryMethodInvocationEvent.beginIfEnabled()).isNull();
+	}
+
 	RepositoryMethodInvokerStub repositoryMethodInvoker(String methodName) {
 		return new RepositoryMethodInvokerStub(DummyRepository.class, multicaster, methodName, query::execute);
 	}
@@ -17,6 +17,8 @@ package org.springframework.data.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
@@ -87,6 +89,35 @@ class ParametersParameterAccessorUnitTests {
 		assertThat(accessor.getBindableValue(0)).isEqualTo("Foo");
 	}
 
+	@Test
+	void unwrapsValuesOnlyForParametersThatMayHoldWrappers() throws Exception {
+
+		var method = Sample.class.getMethod("methodWithWrappers", Optional.class, Object.class, String.class);
+		var parameters = new DefaultParameters(method);
+
+		var accessor = new ParametersParameterAccessor(parameters,
+				new Object[] { Optional.of("Foo"), Optional.of("Bar"), "Baz" });
+
+		assertThat(accessor).containsExactly("Foo", "Bar", "Baz");
+	}
+
+	@Test
+	void usesGivenValuesIfNoParameterMayHoldWrappers() {
+
+		var values = new Object[] { "Foo", 2 };
+		var accessor = new ParametersParameterAccessor(parameters, values);
+
+		assertThat(accessor.getValues()).isSameAs(values);
+	}
+
+	@Test
+	void rejectsInvalidBindableIndex() {
+
+		var accessor = new ParametersParameterAccessor(parameters, new Object[] { "Foo", 2 });
+
+		assertThatExceptionOfType(ParameterOutOfBoundsException.class).isThrownBy(() -> accessor.getBindableValue(2));
+	}
+
 	interface Sample {
 
 		void method(String string, int integer);
@@ -94,5 +125,7 @@ class ParametersParameterAccessorUnitTests {
 		void method(Pageable pageable, String string);
 
 		void methodWithPageRequest(PageRequest pageRequest, String string);
+
+		void methodWithWrappers(Optional<String> optional, Object object, String string);
 	}
 }
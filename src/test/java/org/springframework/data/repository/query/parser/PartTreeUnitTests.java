@@ -702,6 +702,37 @@ class PartTreeUnitTests {
 		return parts;
 	}
 
+	@Test
+	void sharesParsedPartsForSameMethodNameAndDomainType() {
+
+		var first = new PartTree("findByFirstnameAndLastnameOrderByBirthdayDesc", User.class);
+		var second = new PartTree("findByFirstnameAndLastnameOrderByBirthdayDesc", User.class);
+
+		assertThat(second.getParts().toList()).containsExactlyElementsOf(first.getParts().toList());
+		assertThat(second.getParts().iterator().next()).isSameAs(first.getParts().iterator().next());
+		assertThat(second.getSort()).isEqualTo(first.getSort());
+	}
+
+	@Test
+	void doesNotSharePartsAcrossDomainTypes() {
+
+		var product = new PartTree("findByOrderId", Product.class);
+		var other = new PartTree("findByOrderId", DomainObjectWithSpecialChars.class);
+
+		assertThat(other.getParts().iterator().next()).isNotSameAs(product.getParts().iterator().next());
+		assertThat(other.getParts().iterator().next().getProperty().getOwningType().getType())
+				.isEqualTo(DomainObjectWithSpecialChars.class);
+	}
+
+	@Test
+	void splitsOnlyAtKeywordBoundaries() {
+
+		var tree = new PartTree("findByOrderIdAndAndersIdOrAndersIdAndOrderId", Product.class);
+
+		assertPart(tree, new Part[] { new Part("OrderId", Product.class), new Part("AndersId", Product.class) },
+				new Part[] { new Part("AndersId", Product.class), new Part("OrderId", Product.class) });
+	}
+
 	private static PropertyPath newProperty(String name) {
 		return PropertyPath.from(name, User.class);
 	}
@@ -87,6 +87,18 @@ class CrudRepositoryInvokerUnitTests {
 		getInvokerFor(personRepository, expectInvocationOf(method)).invokeFindById(1L);
 	}
 
+	@Test
+	void invokesFindAllByIdOnCrudRepository() throws Exception {
+
+		var method = CrudRepository.class.getMethod("findAllById", Iterable.class);
+		getInvokerFor(personRepository, expectInvocationOf(method)).invokeFindAllById(List.of(1L, 2L));
+	}
+
+	@Test
+	void usesRedeclaredFindOneForFindAllById() {
+		getInvokerFor(orderRepository, expectInvocationOnType(OrderRepository.class)).invokeFindAllById(List.of(1L));
+	}
+
 	@Test // DATACMNS-589, DATAREST-216
 	void invokesDeleteOnCrudRepository() throws Exception {
 
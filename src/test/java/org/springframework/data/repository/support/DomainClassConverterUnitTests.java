@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -40,8 +41,14 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.DefaultCrudMethods;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.core.support.DummyRepositoryFactoryBean;
 import org.springframework.data.repository.support.DomainClassConverter.ToIdConverter;
+import org.springframework.data.util.Lazy;
+import org.springframework.data.util.TypeInformation;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -65,6 +72,7 @@ class DomainClassConverterUnitTests {
 	@SuppressWarnings("rawtypes") DomainClassConverter converter;
 
 	@Mock DefaultConversionService service;
+	@Mock Repositories repositories;
 
 	@BeforeEach
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -217,6 +225,113 @@ class DomainClassConverterUnitTests {
 		assertThat(converter.convert("4711", STRING_TYPE, USER_TYPE)).isNull();
 	}
 
+	@Test
+	void loadsCollectionOfEntitiesWithSingleLookup() {
+
+		var first = new User();
+		var second = new User();
+		var repository = mockRepositories(first, second);
+
+		var targetType = TypeDescriptor.collection(List.class, USER_TYPE);
+		var converter = createConverter(new DefaultConversionService());
+
+		assertThat(converter.matches(STRING_TYPE, targetType)).isTrue();
+		assertThat(converter.convert("2,3,1", STRING_TYPE, targetType)).asList().containsExactly(second, null, first);
+
+		verify(repository).findAllById(List.of(2L, 3L, 1L));
+		verify(repository, never()).findById(any());
+	}
+
+	@Test
+	void loadsArrayOfEntitiesWithSingleLookup() {
+
+		var first = new User();
+		var second = new User();
+		var repository = mockRepositories(first, second);
+
+		var converter = createConverter(new DefaultConversionService());
+
+		assertThat(converter.convert(new String[] { "1", "2", "1" }, TypeDescriptor.valueOf(String[].class),
+				TypeDescriptor.array(USER_TYPE))).isEqualTo(new User[] { first, second, first });
+
+		verify(repository).findAllById(List.of(1L, 2L));
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void prefersBatchLookupOverElementwiseCollectionConversion() {
+
+		var first = new User();
+		var second = new User();
+		var repository = mockRepositories(first, second);
+
+		var conversionService = new DefaultConversionService();
+		createConverter(conversionService);
+
+		assertThat(conversionService.convert("1,2", STRING_TYPE, TypeDescriptor.collection(List.class, USER_TYPE)))
+				.asList().containsExactly(first, second);
+		assertThat(conversionService.convert(List.of(1L), TypeDescriptor.collection(List.class, LONG_TYPE),
+				TypeDescriptor.collection(List.class, LONG_TYPE))).asList().containsExactly(1L);
+
+		verify(repository).findAllById(List.of(1L, 2L));
+	}
+
+	@Test
+	void loadsEntitiesThroughRedeclaredFindByIdMethod() {
+
+		var first = new User();
+		var second = new User();
+		mockRepositories(first, second);
+		var information = repositories.getRequiredRepositoryInformation(User.class);
+
+		var repository = mock(RedeclaringUserRepository.class);
+		when(repositories.getRepositoryFor(User.class)).thenReturn(Optional.of(repository));
+		doReturn(new DefaultCrudMethods(new DefaultRepositoryMetadata(RedeclaringUserRepository.class))).when(information)
+				.getCrudMethods();
+		doReturn(Optional.of(first)).when(repository).findById(1L);
+		doReturn(Optional.of(second)).when(repository).findById(2L);
+
+		var converter = createConverter(new DefaultConversionService());
+
+		assertThat(converter.convert("1,2", STRING_TYPE, TypeDescriptor.collection(List.class, USER_TYPE))).asList()
+				.containsExactly(first, second);
+
+		verify(repository, never()).findAllById(any());
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private DomainClassConverter<?> createConverter(ConfigurableConversionService conversionService) {
+
+		var converter = new DomainClassConverter(conversionService);
+		ReflectionTestUtils.setField(converter, "repositories",
+				Lazy.of(() -> ReflectionTestUtils.invokeMethod(converter, "initialize", repositories)));
+
+		return converter;
+	}
+
+	@SuppressWarnings("unchecked")
+	private UserRepository mockRepositories(User first, User second) {
+
+		var repository = mock(UserRepository.class);
+		var information = mock(RepositoryInformation.class);
+		EntityInformation<Object, Object> entityInformation = mock(EntityInformation.class);
+
+		doReturn(TypeInformation.of(Long.class)).when(information).getIdTypeInformation();
+		doReturn(new DefaultCrudMethods(new DefaultRepositoryMetadata(UserRepository.class))).when(information)
+				.getCrudMethods();
+		doReturn(1L).when(entityInformation).getId(first);
+		doReturn(2L).when(entityInformation).getId(second);
+		doReturn(List.of(second, first)).when(repository).findAllById(any());
+
+		when(repositories.hasRepositoryFor(User.class)).thenReturn(true);
+		when(repositories.getRequiredRepositoryInformation(User.class)).thenReturn(information);
+		when(repositories.getRepositoryInformationFor(User.class)).thenReturn(Optional.of(information));
+		when(repositories.getRepositoryFor(User.class)).thenReturn(Optional.of(repository));
+		doReturn(entityInformation).when(repositories).getEntityInformationFor(User.class);
+
+		return repository;
+	}
+
 	private ApplicationContext initContextWithRepo() {
 
 		var builder = BeanDefinitionBuilder.rootBeanDefinition(DummyRepositoryFactoryBean.class);
@@ -248,4 +363,10 @@ class DomainClassConverterUnitTests {
 	private static interface UserRepository extends CrudRepository<User, Long> {
 
 	}
+
+	private interface RedeclaringUserRepository extends UserRepository {
+
+		@Override
+		Optional<User> findById(Long id);
+	}
 }
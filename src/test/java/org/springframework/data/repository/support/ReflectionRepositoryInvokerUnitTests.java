@@ -148,6 +148,36 @@ class ReflectionRepositoryInvokerUnitTests {
 				Sort.unsorted());
 	}
 
+	@Test
+	void reusesInvocationPlanForRepeatedQueryMethodInvocations() throws Exception {
+
+		var method = PersonRepository.class.getMethod("findByFirstName", String.class, Pageable.class);
+		var repository = mock(PersonRepository.class);
+		var invoker = getInvokerFor(repository);
+
+		for (var name : List.of("John", "Dave")) {
+
+			MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+			parameters.add("firstName", name);
+
+			invoker.invokeQueryMethod(method, parameters, Pageable.unpaged(), Sort.unsorted());
+			verify(repository).findByFirstName(name, Pageable.unpaged());
+		}
+	}
+
+	@Test
+	void propagatesExceptionsThrownByQueryMethod() throws Exception {
+
+		var method = PersonRepository.class.getMethod("findByFirstName", String.class, Pageable.class);
+		var repository = mock(PersonRepository.class);
+		var exception = new IllegalStateException("Boom");
+
+		when(repository.findByFirstName(any(), any())).thenThrow(exception);
+
+		assertThatIllegalStateException().isThrownBy(() -> getInvokerFor(repository).invokeQueryMethod(method,
+				new LinkedMultiValueMap<>(), Pageable.unpaged(), Sort.unsorted())).isSameAs(exception);
+	}
+
 	@Test // DATACMNS-589
 	void considersFormattingAnnotationsOnQueryMethodParameters() throws Exception {
 
@@ -222,6 +222,44 @@ class RepositoriesUnitTests {
 		assertRepositoryAvailableFor(repositories, Child.class, ChildRepository.class);
 	}
 
+	@Test
+	void exposesRepositoryInformationForRepositoryInterface() {
+
+		var repositories = new Repositories(context);
+
+		assertThat(repositories.getRepositoryInformation(PersonRepository.class))
+				.hasValueSatisfying(it -> assertThat(it.getDomainType()).isEqualTo(Person.class));
+		assertThat(repositories.getRepositoryInformation(SampleRepository.class)).isEmpty();
+	}
+
+	@Test
+	void resolvesLookupsForSubTypesRepeatedly() {
+
+		var repositories = new Repositories(context);
+
+		for (int i = 0; i < 2; i++) {
+
+			assertRepositoryAvailableFor(repositories, AdvancedAddress.class, AddressRepository.class);
+			assertThat(repositories.hasRepositoryFor(String.class)).isFalse();
+		}
+	}
+
+	@Test
+	void invalidatesLookupsOnRemovalOfDomainTypes() {
+
+		var repositories = new Repositories(context);
+		assertThat(repositories.hasRepositoryFor(Person.class)).isTrue();
+
+		for (var iterator = repositories.iterator(); iterator.hasNext();) {
+			if (iterator.next().equals(Person.class)) {
+				iterator.remove();
+			}
+		}
+
+		assertThat(repositories).doesNotContain(Person.class);
+		assertThat(repositories.hasRepositoryFor(Person.class)).isFalse();
+	}
+
 	private void assertRepositoryAvailableFor(Repositories repositories, Class<?> domainTypem,
 			Class<?> repositoryInterface) {
 